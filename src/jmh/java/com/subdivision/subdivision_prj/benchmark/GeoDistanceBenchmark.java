@@ -0,0 +1,116 @@
+package com.subdivision.subdivision_prj.benchmark;
+
+import com.subdivision.subdivision_prj.domain.GeoDistanceKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 판정 방식 비교 벤치마크입니다.
+ * - haversinePerEntity: 기존 PotService.isWithinDistance와 같은 방식 (좌표마다 toRadians, cos, sin, atan2, sqrt를 계산하고, 엔티티의 Double getter를 사용)
+ * - kernelLatLon: GeoDistanceKernel.select(double[], double[], int[]) (중심점 삼각함수는 한 번만, 현 길이의 제곱 비교)
+ * - kernelUnitVectors: GeoDistanceKernel.select(double[], int[]) (미리 변환해 둔 단위 벡터로 곱셈/덧셈만 수행)
+ * 두 커널 모두 좌표가 PARALLEL_THRESHOLD 이상이면 ForkJoin 공용 풀에서 나누어 처리합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoDistanceBenchmark {
+
+    private static final double CENTER_LAT = 35.179554;
+    private static final double CENTER_LON = 129.075642;
+    private static final double RADIUS_KM = 10;
+
+    @Param({"1000", "100000", "1000000"})
+    private int pointCount;
+
+    private List<Location> entities;
+    private double[] lats;
+    private double[] lons;
+    private double[] unitVectors;
+    private int[] out;
+
+    @Setup
+    public void setUp() {
+        // 부산 시청을 중심으로 약 ±55km 범위에 좌표를 흩뿌립니다. (반경 10km 안에는 약 3%가 들어옵니다)
+        Random random = new Random(3);
+        entities = new ArrayList<>(pointCount);
+        lats = new double[pointCount];
+        lons = new double[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            lats[i] = CENTER_LAT - 0.5 + random.nextDouble();
+            lons[i] = CENTER_LON - 0.5 + random.nextDouble();
+            entities.add(new Location(lats[i], lons[i]));
+        }
+        unitVectors = GeoDistanceKernel.toUnitVectors(lats, lons);
+        out = new int[pointCount];
+    }
+
+    @Benchmark
+    public int haversinePerEntity() {
+        int count = 0;
+        for (Location entity : entities) {
+            if (isWithinDistance(CENTER_LAT, CENTER_LON, entity.getLatitude(), entity.getLongitude(), RADIUS_KM)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int kernelLatLon() {
+        return GeoDistanceKernel.around(CENTER_LAT, CENTER_LON, RADIUS_KM).select(lats, lons, out);
+    }
+
+    @Benchmark
+    public int kernelUnitVectors() {
+        return GeoDistanceKernel.around(CENTER_LAT, CENTER_LON, RADIUS_KM).select(unitVectors, out);
+    }
+
+    // 기존 PotService.isWithinDistance와 같은 구현입니다.
+    private static boolean isWithinDistance(double lat1, double lon1, double lat2, double lon2, double distanceKm) {
+        final int R = 6371; // 지구의 반지름 (km)
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return (R * c) <= distanceKm;
+    }
+
+    // Pot 엔티티처럼 좌표를 박싱된 Double로 보관하는 객체
+    private static final class Location {
+        private final Double latitude;
+        private final Double longitude;
+
+        private Location(Double latitude, Double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        Double getLatitude() {
+            return latitude;
+        }
+
+        Double getLongitude() {
+            return longitude;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.subdivision.subdivision_prj.benchmark;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotKeywordDocument;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.service.PotKeywordIndex;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 검색 방식 비교 벤치마크입니다. 두 방식 모두 카테고리/상태 조건 없이 키워드에 맞는 팟 ID를 모두 찾습니다.
+ * - likeKeywordQuery: PotRepository.findIdsByKeyword의 JPQL을 Hibernate가 변환한 것과 같은 SQL
+ *   ("title/content/product_name LIKE '%키워드%'")을 내장 H2(MySQL 모드, 대소문자 무시)에서 실행 (네트워크 비용은 제외)
+ * - invertedIndex: PotKeywordIndex의 bigram 게시 목록 교집합
+ * H2의 실행 계획은 MySQL과 다르므로 절대값보다는 문서 수에 따른 증가 추세를 비교하는 용도입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PotKeywordSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "유기농", "우유", "생수", "휴지", "물티슈", "기저귀", "분유", "샴푸", "린스", "치약",
+            "칫솔", "세제", "섬유유연제", "쌀", "계란", "닭가슴살", "커피", "원두", "캡슐", "라면",
+            "햇반", "김치", "고구마", "감자", "사과", "배", "귤", "복사용지", "볼펜", "노트",
+            "대용량", "소분", "나눔", "같이", "구매", "하실", "분", "구해요", "반반", "택배"
+    };
+
+    @Param({"10000", "100000"})
+    private int documentCount;
+
+    @Param({"생수", "섬유유연제", "대용량 쌀"})
+    private String keyword;
+
+    // PotRepository.findIdsByKeyword가 실행하는 SQL
+    private static final String LIKE_KEYWORD_SQL = "SELECT p.pot_id FROM pots p " +
+            "WHERE p.title LIKE ? OR p.content LIKE ? OR p.product_name LIKE ?";
+
+    private List<PotKeywordDocument> documents;
+    private PotKeywordIndex index;
+    private Connection connection;
+    private PreparedStatement likeKeywordStatement;
+
+    @Setup
+    public void setUp() throws SQLException {
+        Random random = new Random(7);
+        documents = new ArrayList<>(documentCount);
+        PotCategory[] categories = PotCategory.values();
+        for (long id = 1; id <= documentCount; id++) {
+            documents.add(new PotKeywordDocument(id, sentence(random, 4), sentence(random, 30), sentence(random, 2),
+                    categories[random.nextInt(categories.length)],
+                    random.nextInt(4) == 0 ? PotStatus.COMPLETED : PotStatus.RECRUITING));
+        }
+
+        // 벤치마크에는 DB가 없으므로, 색인 구축에 필요한 메서드만 응답하는 PotRepository 프록시를 사용합니다.
+        PotRepository repository = (PotRepository) Proxy.newProxyInstance(
+                PotRepository.class.getClassLoader(), new Class<?>[]{PotRepository.class},
+                (proxy, method, args) -> "findAllKeywordDocuments".equals(method.getName()) ? documents : null);
+        index = new PotKeywordIndex(repository, true);
+        index.rebuild();
+
+        // MySQL 기본 콜레이션(utf8mb4_0900_ai_ci)처럼 대소문자를 구분하지 않도록 IGNORECASE로 테이블을 만듭니다.
+        // (벤치마크 jar에서는 JDBC 드라이버의 서비스 파일이 합쳐지므로, DriverManager 대신 H2 DataSource를 직접 사용합니다)
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:pot-keyword-" + documentCount + ";MODE=MySQL;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1");
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS pots");
+            statement.execute("CREATE TABLE pots (pot_id BIGINT PRIMARY KEY, title VARCHAR(255) NOT NULL, " +
+                    "content VARCHAR(1000) NOT NULL, product_name VARCHAR(255) NOT NULL)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO pots (pot_id, title, content, product_name) VALUES (?, ?, ?, ?)")) {
+            for (PotKeywordDocument document : documents) {
+                insert.setLong(1, document.getId());
+                insert.setString(2, document.getTitle());
+                insert.setString(3, document.getContent());
+                insert.setString(4, document.getProductName());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        likeKeywordStatement = connection.prepareStatement(LIKE_KEYWORD_SQL);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        likeKeywordStatement.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public BitSet likeKeywordQuery() throws SQLException {
+        // Spring Data JPA가 %:keyword%를 바인딩하는 것과 같이 검색어 앞뒤에 %를 붙입니다.
+        String pattern = "%" + keyword + "%";
+        likeKeywordStatement.setString(1, pattern);
+        likeKeywordStatement.setString(2, pattern);
+        likeKeywordStatement.setString(3, pattern);
+        BitSet result = new BitSet();
+        try (ResultSet resultSet = likeKeywordStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.set(Math.toIntExact(resultSet.getLong(1)));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BitSet invertedIndex() {
+        return index.search(keyword, null, null);
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
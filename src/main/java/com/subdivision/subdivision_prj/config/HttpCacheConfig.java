@@ -0,0 +1,47 @@
+package com.subdivision.subdivision_prj.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * 목록 API 응답의 HTTP 캐시(조건부 GET) 설정 클래스입니다.
+ * 목록은 여러 팟과 삭제 여부까지 반영해야 하므로 버전 하나로 표현할 수 없어, 응답 본문의 해시로 강한(strong) ETag를 만듭니다.
+ * 클라이언트가 같은 ETag를 If-None-Match로 보내면 본문 대신 304 (Not Modified)를 보내므로 전송량이 줄어듭니다.
+ * (상세 조회 API는 팟의 버전으로 본문을 만들기 전에 판단하므로 이 필터를 거치지 않습니다)
+ * 목록 API는 listCacheControl()을 응답에 직접 설정해야 합니다. 설정하지 않으면 Spring Security가 no-store를 붙이므로
+ * 클라이언트가 응답을 저장하지 않고, If-None-Match도 보내지 않습니다.
+ */
+@Configuration
+public class HttpCacheConfig {
+
+    /**
+     * 목록 API 응답의 Cache-Control 값입니다.
+     * 참여 여부(currentUserJoined)처럼 사용자마다 다른 값이 있으므로 공유 캐시에는 저장하지 않고(private),
+     * 저장은 하되 매번 ETag로 재검증하도록(no-cache) 합니다.
+     */
+    public static CacheControl listCacheControl() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        // 응답 전체를 메모리에 모은 뒤 해시를 계산하므로, 스트리밍(/api/pots/stream)과 지도 타일(자체 ETag)에는 적용하지 않습니다.
+        registration.addUrlPatterns(
+                "/api/pots",
+                "/api/pots/public",
+                "/api/pots/public/scroll",
+                "/api/pots/nearby",
+                "/api/pots/search",
+                "/api/pots/search/scroll",
+                "/api/pots/search/facets",
+                "/api/pots/clusters",
+                "/api/mypage/my-pots",
+                "/api/mypage/joined-pots"
+        );
+        return registration;
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import redis.clients.jedis.JedisPoolConfig;
@@ -86,4 +88,26 @@ public class RedisConfig {
         redisTemplate.afterPropertiesSet(); // 설정 값 검증 및 초기화
         return redisTemplate;
     }
+
+    /**
+     * Key와 Value를 모두 문자열로 다루는 StringRedisTemplate을 Bean으로 등록합니다.
+     * GEO 집합의 멤버(팟 ID)처럼 JSON으로 감쌀 필요가 없는 값을 저장할 때 사용합니다.
+     * @return StringRedisTemplate 인스턴스
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * Redis Pub/Sub 채널을 구독하는 리스너 컨테이너를 Bean으로 등록합니다.
+     * 팟 상세 캐시처럼 서버마다 메모리에 보관하는 데이터를, 다른 서버에서 일어난 변경에 맞춰 제거할 때 사용합니다.
+     * @return RedisMessageListenerContainer 인스턴스
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
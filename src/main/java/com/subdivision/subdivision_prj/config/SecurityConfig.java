@@ -73,7 +73,7 @@ public class SecurityConfig {
                         .requestMatchers("/", "/api/auth/**", "/oauth2/**").permitAll()
 
                         // 인증 없이도 조회 가능한 공개 API 경로들을 허용합니다.
-                        .requestMatchers(HttpMethod.GET, "/api/pots/public", "/api/pots/search").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/pots/public", "/api/pots/public/scroll", "/api/pots/search", "/api/pots/search/scroll", "/api/pots/search/facets", "/api/pots/nearby", "/api/pots/clusters", "/api/pots/tiles/**").permitAll()
 
                         // 웹소켓 연결을 위한 경로는 인증 없이 허용합니다.
                         .requestMatchers("/ws-chat/**").permitAll()
@@ -0,0 +1,77 @@
+package com.subdivision.subdivision_prj.controller;
+
+import com.subdivision.subdivision_prj.service.PotClusterIndex;
+import com.subdivision.subdivision_prj.service.PotGeoIndex;
+import com.subdivision.subdivision_prj.service.PotKeywordIndex;
+import com.subdivision.subdivision_prj.service.PotRedisGeoIndex;
+import com.subdivision.subdivision_prj.service.PotSearchCache;
+import com.subdivision.subdivision_prj.service.PotService;
+import com.subdivision.subdivision_prj.service.PotTileService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 운영자용 관리 API를 제공하는 컨트롤러입니다.
+ * application.properties의 admin.emails에 등록된 사용자만 호출할 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final PotService potService;
+    private final PotGeoIndex potGeoIndex;
+    private final PotKeywordIndex potKeywordIndex;
+    private final PotRedisGeoIndex potRedisGeoIndex;
+    private final PotSearchCache potSearchCache;
+    private final PotClusterIndex potClusterIndex;
+    private final PotTileService potTileService;
+    private final Set<String> adminEmails;
+
+    public AdminController(PotService potService, PotGeoIndex potGeoIndex, PotKeywordIndex potKeywordIndex, PotRedisGeoIndex potRedisGeoIndex,
+                           PotSearchCache potSearchCache, PotClusterIndex potClusterIndex, PotTileService potTileService,
+                           @Value("${admin.emails:}") String adminEmails) {
+        this.potService = potService;
+        this.potGeoIndex = potGeoIndex;
+        this.potKeywordIndex = potKeywordIndex;
+        this.potRedisGeoIndex = potRedisGeoIndex;
+        this.potSearchCache = potSearchCache;
+        this.potClusterIndex = potClusterIndex;
+        this.potTileService = potTileService;
+        this.adminEmails = Arrays.stream(adminEmails.split(","))
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 팟 목록 조회 모델(pot_summary)과 검색용 색인(메모리 공간 인덱스, 키워드 역색인, Redis GEO 집합, 지도 클러스터)을
+     * DB로부터 다시 구축하는 API
+     * DB를 직접 수정했거나 색인이 어긋났다고 의심될 때, Redis 장애 후 복구할 때, 또는 조회 모델 도입 후 기존 팟을 옮길 때 사용합니다.
+     */
+    @PostMapping("/pots/index/rebuild")
+    public ResponseEntity<Void> rebuildPotIndexes(@AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null || !adminEmails.contains(userDetails.getUsername())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        potService.rebuildSummaries();
+        potGeoIndex.rebuild();
+        potKeywordIndex.rebuild();
+        potRedisGeoIndex.rebuild();
+        potClusterIndex.rebuild();
+        // 재구축된 색인으로 다시 계산되도록 검색 캐시와 지도 타일 캐시를 모두 비웁니다.
+        potSearchCache.invalidateAll();
+        potTileService.invalidateAll();
+
+        return ResponseEntity.noContent().build();
+    }
+}
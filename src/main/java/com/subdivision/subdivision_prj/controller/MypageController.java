@@ -1,7 +1,9 @@
 package com.subdivision.subdivision_prj.controller;
 
+import com.subdivision.subdivision_prj.config.HttpCacheConfig;
 import com.subdivision.subdivision_prj.dto.NicknameUpdateRequestDto;
-import com.subdivision.subdivision_prj.dto.PotResponseDto;
+import com.subdivision.subdivision_prj.dto.PotFieldSet;
+import com.subdivision.subdivision_prj.dto.PotSummaryDto;
 import com.subdivision.subdivision_prj.service.MypageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,30 +23,34 @@ public class MypageController {
     /**
      * 현재 로그인 한 사용자가 작성한 모든 팟(Pot) 목록을 조회하는 API
      * @param userDetails JWT 인증 필터를 통해 얻은 현재 사용자 정보
+     * @param fields 응답에 포함할 필드 (선택, 예: title,price,imageUrl / 없으면 모든 필드)
      * @return 작성한 팟 목록과 HTTP 200 OK 상태 코드
      */
     @GetMapping("/my-pots")
-    public ResponseEntity<List<PotResponseDto>> getMyPots(
-        @AuthenticationPrincipal UserDetails userDetails
+    public ResponseEntity<List<PotSummaryDto>> getMyPots(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestParam(value = "fields", required = false) String fields
     ) {
         //MyPageService를 호출하여 비즈니스 로직을 수행합니다.
-        List<PotResponseDto> myPots = mypageService.getMyPots(userDetails);
+        List<PotSummaryDto> myPots = mypageService.getMyPots(userDetails, PotFieldSet.parse(fields));
 
-        return ResponseEntity.ok(myPots);
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(myPots);
     }
 
     /**
      * 현재 로그인 한 사용자가 참여한 모든 팟(Pot) 목록을 조회하는 API
      * @param userDetails JWT 인증 필터를 통해 얻은 현재 사용자 정보
+     * @param fields 응답에 포함할 필드 (선택, 없으면 모든 필드)
      * @return 참여한 팟 목록과 HTTP 200 OK 상태 코드
      */
     @GetMapping("/joined-pots")
-    public ResponseEntity<List<PotResponseDto>> getJoinedPots(
-            @AuthenticationPrincipal UserDetails userDetails
+    public ResponseEntity<List<PotSummaryDto>> getJoinedPots(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(value = "fields", required = false) String fields
     ) {
-        List<PotResponseDto> joinedPots = mypageService.getJoinedPots(userDetails);
+        List<PotSummaryDto> joinedPots = mypageService.getJoinedPots(userDetails, PotFieldSet.parse(fields));
 
-        return ResponseEntity.ok(joinedPots);
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(joinedPots);
     }
 
     /**
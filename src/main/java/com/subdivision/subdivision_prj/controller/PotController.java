@@ -1,21 +1,41 @@
 package com.subdivision.subdivision_prj.controller;
 
+import com.subdivision.subdivision_prj.config.HttpCacheConfig;
+import com.subdivision.subdivision_prj.dto.CursorPageResponseDto;
+import com.subdivision.subdivision_prj.dto.PotBatchItemDto;
+import com.subdivision.subdivision_prj.dto.PotBatchRequestDto;
+import com.subdivision.subdivision_prj.dto.PotClusterDto;
 import com.subdivision.subdivision_prj.dto.PotCreateRequestDto;
+import com.subdivision.subdivision_prj.dto.PotFacetResponseDto;
+import com.subdivision.subdivision_prj.dto.PotFieldSet;
+import com.subdivision.subdivision_prj.dto.PotScrollSort;
+import com.subdivision.subdivision_prj.dto.PotSummaryDto;
 import com.subdivision.subdivision_prj.dto.PotUpdateRequestDto;
 import com.subdivision.subdivision_prj.dto.PotResponseDto;
+import com.subdivision.subdivision_prj.dto.PotRevision;
+import com.subdivision.subdivision_prj.service.PotClusterIndex;
 import com.subdivision.subdivision_prj.service.PotService;
+import com.subdivision.subdivision_prj.service.PotTileService;
 import com.subdivision.subdivision_prj.domain.PotCategory;
 import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -23,18 +43,53 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PotController {
 
+    private static final MediaType MVT_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
     private final PotService potService;
+    private final PotClusterIndex potClusterIndex;
+    private final PotTileService potTileService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 인증이 필요 없는 전체 팟 목록 조회 API
+     * 목록 API들은 카드에 필요한 필드만 담은 PotSummaryDto를 반환하며, fields 파라미터로 응답 필드를 더 줄일 수 있습니다.
+     * 예시 호출: GET /api/pots/public?page=0&size=20&fields=title,price,imageUrl
      * @param pageable 페이징 정보
+     * @param fields 응답에 포함할 필드 (선택, 쉼표로 구분, 없으면 모든 필드 / potId는 항상 포함)
      * @return 페이징 된 전체 팟 목록
      */
     @GetMapping("/public")
-    public ResponseEntity<Page<PotResponseDto>> getAllPotsPublic(Pageable pageable) {
-        Page<PotResponseDto> pots = potService.getAllPotsPublic(pageable);
+    public ResponseEntity<Page<PotSummaryDto>> getAllPotsPublic(
+            Pageable pageable,
+            @RequestParam(value = "fields", required = false) String fields,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        PotFieldSet fieldSet = PotFieldSet.parse(fields);
+        Page<PotSummaryDto> pots = potService.getAllPotsPublic(pageable, fieldSet);
+        // 로그인한 사용자라면 페이지의 팟들에 대한 참여 여부를 한 번에 설정합니다.
+        potService.markCurrentUserJoined(pots.getContent(), fieldSet, userDetails);
 
-        return ResponseEntity.ok(pots);
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(pots);
+    }
+
+    /**
+     * 인증이 필요 없는 전체 팟 목록을 커서 방식으로 조회하는 API (무한 스크롤용)
+     * @param cursor 이전 응답의 next 값 (선택, 없으면 첫 페이지)
+     * @param size 페이지 크기 (선택, 기본값 20)
+     * @param sort 정렬 기준 (선택, LATEST 또는 PRICE, 기본값 LATEST)
+     * @param fields 응답에 포함할 필드 (선택, 없으면 모든 필드)
+     * @return 팟 목록과 다음 페이지 커서 (마지막 페이지라면 next는 null)
+     */
+    @GetMapping("/public/scroll")
+    public ResponseEntity<CursorPageResponseDto<PotSummaryDto>> scrollPotsPublic(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", defaultValue = "LATEST") PotScrollSort sort,
+            @RequestParam(value = "fields", required = false) String fields,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        PotFieldSet fieldSet = PotFieldSet.parse(fields);
+        CursorPageResponseDto<PotSummaryDto> page = potService.scrollPotsPublic(cursor, size, sort, fieldSet);
+        potService.markCurrentUserJoined(page.getContent(), fieldSet, userDetails);
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(page);
     }
 
     /**
@@ -56,25 +111,80 @@ public class PotController {
 
     /**
      * 특정 팟을 ID로 조회하는 API
+     * 응답에는 ETag와 Last-Modified가 포함되며, 인원 변화를 확인하려고 주기적으로 조회하는 클라이언트는
+     * If-None-Match(또는 If-Modified-Since)를 보내면 팟이 바뀌지 않았을 때 본문 없이 304 (Not Modified)를 받습니다.
      * @param potId URL 경로에서 추출한 팟의 ID
      * @return 조호된 팟의 정보와 HTTP 상태 코드 200(OK)
      */
     @GetMapping("/{potId}")
-    public ResponseEntity<PotResponseDto> getPotById(@PathVariable Long potId, @AuthenticationPrincipal UserDetails userDetails) {
-        PotResponseDto responseDto = potService.getPotById(potId, userDetails);
+    public ResponseEntity<PotResponseDto> getPotById(@PathVariable Long potId, @AuthenticationPrincipal UserDetails userDetails,
+                                                     WebRequest webRequest) {
+        // [핵심] 팟의 버전만 먼저 조회하여 비교합니다. 바뀌지 않았다면 엔티티 로딩, DTO 변환, Presigned URL 생성을 모두 건너뜁니다.
+        PotRevision revision = potService.getPotRevision(potId, userDetails);
+        if (webRequest.checkNotModified(revision.etag(), revision.lastModified())) {
+            // checkNotModified가 304 상태와 ETag/Last-Modified 헤더를 이미 설정했으므로, 본문 없이 응답을 마칩니다.
+            return null;
+        }
 
-        return ResponseEntity.ok(responseDto);
+        PotResponseDto responseDto = potService.getPotById(potId, revision.version(), userDetails);
+
+        // 참여 여부가 사용자마다 다르므로 공유 캐시에는 저장하지 않고(private), 매번 ETag로 재검증하도록(no-cache) 합니다.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(revision.etag())
+                .lastModified(revision.lastModified())
+                .body(responseDto);
+    }
+
+    /**
+     * 여러 팟의 상세 정보를 한 번에 조회하는 API
+     * 채팅 목록이나 알림처럼 여러 팟을 연달아 조회해야 할 때, 팟마다 GET /api/pots/{potId}를 보내는 대신 한 번에 요청합니다.
+     * @param requestDto 조회할 팟 ID 목록 (최대 100개)
+     * @return 요청한 순서대로의 결과 목록 (없는 팟은 found=false)과 HTTP 상태 코드 200(OK)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<PotBatchItemDto>> getPotsByIds(@RequestBody PotBatchRequestDto requestDto,
+                                                              @AuthenticationPrincipal UserDetails userDetails) {
+        List<PotBatchItemDto> items = potService.getPotsByIds(requestDto.getPotIds(), userDetails);
+        return ResponseEntity.ok(items);
     }
 
     /**
      * 모든 팟의 목록을 조회하는 API
+     * @param fields 응답에 포함할 필드 (선택, 없으면 모든 필드)
      * @return 모든 팟의 정보 리스트와 HTTP 상태 코드 200(OK)
      */
     @GetMapping
-    public ResponseEntity<List<PotResponseDto>> getAllPots() {
-        List<PotResponseDto> responseDtoList = potService.getAllPots();
+    public ResponseEntity<List<PotSummaryDto>> getAllPots(@RequestParam(value = "fields", required = false) String fields,
+                                                          @AuthenticationPrincipal UserDetails userDetails) {
+        PotFieldSet fieldSet = PotFieldSet.parse(fields);
+        List<PotSummaryDto> responseDtoList = potService.getAllPots(fieldSet);
+        potService.markCurrentUserJoined(responseDtoList, fieldSet, userDetails);
 
-        return ResponseEntity.ok(responseDtoList);
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(responseDtoList);
+    }
+
+    /**
+     * 모든 팟의 목록을 NDJSON(application/x-ndjson, 한 줄에 팟 하나)으로 스트리밍하는 API
+     * 목록 전체를 메모리에 모으지 않고 DB에서 페이지 단위로 읽는 대로 응답에 써 내려가므로, 팟이 아무리 많아도 메모리 사용량이 일정합니다.
+     * DB 커넥션은 페이지를 읽는 동안에만 사용하므로, 내려받는 데 오래 걸리는 클라이언트도 커넥션 풀을 점유하지 않습니다.
+     * 야간 동기화 클라이언트나 관리 도구처럼 전체 목록이 필요한 경우 GET /api/pots 대신 사용합니다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPots(@RequestParam(value = "fields", required = false) String fields) {
+        // 잘못된 fields는 스트리밍을 시작하기 전에 400 응답으로 거절합니다.
+        PotFieldSet fieldSet = PotFieldSet.parse(fields);
+        StreamingResponseBody body = outputStream -> potService.streamAllPots(fieldSet, pot -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(pot));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                // 클라이언트가 연결을 끊은 경우 등에는 스트리밍을 중단합니다. (트랜잭션과 DB 스트림도 함께 정리됩니다)
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
@@ -131,29 +241,32 @@ public class PotController {
     }
 
     /**
-     * 2025-08-18 메서드 삭제(아래 searchPots API로 통합)
-     * 위치 기반으로 주변의 Pot 목록을 조회하는 API 엔트포인트입니다.
+     * 위치 기반으로 주변의 모집중인 Pot 목록을 가까운 순서대로 조회하는 API 엔트포인트입니다.
      * 클라이언트는 Query Parameter를 통해 현재 위치와 검색 반경을 전달합니다.
-     * 예시 호출: GET /api/v1/pots/nearby?lat=35.179554&lon=129.075642&dist=3
+     * 예시 호출: GET /api/pots/nearby?lat=35.179554&lon=129.075642&dist=3
      *
      * @param lat 사용자의 현재 위도(latitude)
      * @param lon 사용자의 현재 경도(longitude)
      * @param dist 검색 반경(km) - 값이 없을 경우 기본값으로 1km를 사용합니다.
+     * @param fields 응답에 포함할 필드 (선택, 없으면 모든 필드)
      * @return 성공 응답(200 OK)와 함께 검색된 Pot 목록을 Body에 담아 반환합니다.
-
+     */
     @GetMapping("/nearby")
-    public ResponseEntity<List<PotResponseDto>> getPotsByLocation(
+    public ResponseEntity<List<PotSummaryDto>> getPotsByLocation(
             @RequestParam("lat") Double lat,
             @RequestParam("lon") Double lon,
-            @RequestParam(value = "dist", defaultValue = "1") Double dist) {
+            @RequestParam(value = "dist", defaultValue = "1") Double dist,
+            @RequestParam(value = "fields", required = false) String fields,
+            @AuthenticationPrincipal UserDetails userDetails) {
 
         //1.PotService에 정의된 위치 기반 검색 메서드를 호출합니다.
-        List<PotResponseDto> pots = potService.findPotsByLocation(lon, lat, dist);
+        PotFieldSet fieldSet = PotFieldSet.parse(fields);
+        List<PotSummaryDto> pots = potService.findPotsByLocation(lon, lat, dist, fieldSet);
+        potService.markCurrentUserJoined(pots, fieldSet, userDetails);
 
         //2.서비스로부터 받은 DTO 리스트를 ResponseEntity에 담아 클라이언트에 반환합니다.
-        return ResponseEntity.ok(pots);
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(pots);
     }
-     */
 
     /**
      * 팟(Pot)을 복합 조건으로 검색하는 API
@@ -164,21 +277,117 @@ public class PotController {
      * @param keyword 검색 키워드 (선택)
      * @param category 카테고리 필터 (선택)
      * @param status 상태 필터 (선택, 기본값 RECRUITING)
-     * @param pageable 페이징 정보 (자동 주입)
-     * @return 검색 조건에 맞는 팟의 페이징된 목록
+     * @param pageable 페이징 정보 (자동 주입, sort=distance로 요청하면 가까운 순으로 정렬)
+     * @param fields 응답에 포함할 필드 (선택, 없으면 모든 필드)
+     * @return 검색 조건에 맞는 팟의 페이징된 목록 (각 팟에 중심점으로부터의 거리 distanceKm 포함)
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<PotResponseDto>> searchPots(
+    public ResponseEntity<Page<PotSummaryDto>> searchPots(
+        @RequestParam("lat") Double lat,
+        @RequestParam("lon") Double lon,
+        @RequestParam(value = "distance", defaultValue = "10") Double distance,
+        @RequestParam(value = "keyword", required = false) String keyword,
+        @RequestParam(value = "category", required = false) PotCategory category,
+        @RequestParam(value = "status", required = false) PotStatus status,
+        Pageable pageable,
+        @RequestParam(value = "fields", required = false) String fields,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        PotFieldSet fieldSet = PotFieldSet.parse(fields);
+        Page<PotSummaryDto> pots = potService.searchPots(lat, lon, distance, keyword, category, status, pageable, fieldSet);
+        potService.markCurrentUserJoined(pots.getContent(), fieldSet, userDetails);
+
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(pots);
+    }
+
+    /**
+     * 위치 기반 팟 검색 결과를 커서 방식으로 최신순 조회하는 API (무한 스크롤용)
+     * 검색 조건은 /search와 같으며, 전체 개수와 페이지 번호 대신 다음 페이지 커서를 반환합니다.
+     * @param cursor 이전 응답의 next 값 (선택, 없으면 첫 페이지)
+     * @param size 페이지 크기 (선택, 기본값 20)
+     * @param fields 응답에 포함할 필드 (선택, 없으면 모든 필드)
+     */
+    @GetMapping("/search/scroll")
+    public ResponseEntity<CursorPageResponseDto<PotSummaryDto>> scrollSearchPots(
         @RequestParam("lat") Double lat,
         @RequestParam("lon") Double lon,
         @RequestParam(value = "distance", defaultValue = "10") Double distance,
         @RequestParam(value = "keyword", required = false) String keyword,
         @RequestParam(value = "category", required = false) PotCategory category,
         @RequestParam(value = "status", required = false) PotStatus status,
-        Pageable pageable
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        @RequestParam(value = "fields", required = false) String fields,
+        @AuthenticationPrincipal UserDetails userDetails
     ) {
-        Page<PotResponseDto> pots = potService.searchPots(lat, lon, distance, keyword, category, status, pageable);
+        PotFieldSet fieldSet = PotFieldSet.parse(fields);
+        CursorPageResponseDto<PotSummaryDto> page = potService.scrollSearchPots(lat, lon, distance, keyword, category, status,
+                cursor, size, fieldSet);
+        potService.markCurrentUserJoined(page.getContent(), fieldSet, userDetails);
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(page);
+    }
+
+    /**
+     * 위치 기반 검색 결과의 카테고리별, 상태별 개수를 조회하는 API
+     * 검색 조건은 /search와 같으므로, 목록(/search)과 이 API를 함께 호출하면 카테고리 칩의 개수를 한 번에 채울 수 있습니다.
+     * @return 전체 개수와 카테고리별, 상태별 개수
+     */
+    @GetMapping("/search/facets")
+    public ResponseEntity<PotFacetResponseDto> getSearchFacets(
+        @RequestParam("lat") Double lat,
+        @RequestParam("lon") Double lon,
+        @RequestParam(value = "distance", defaultValue = "10") Double distance,
+        @RequestParam(value = "keyword", required = false) String keyword,
+        @RequestParam(value = "category", required = false) PotCategory category,
+        @RequestParam(value = "status", required = false) PotStatus status
+    ) {
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(potService.countPotFacets(lat, lon, distance, keyword, category, status));
+    }
+
+    /**
+     * 축소된 지도에 그릴 팟 클러스터를 조회하는 API
+     * 팟 목록 대신 격자 셀별 개수, 무게중심, 대표 팟 ID만 반환하므로 응답이 수 KB 수준으로 작습니다.
+     * @param bbox 지도 화면 영역 "서쪽 경도,남쪽 위도,동쪽 경도,북쪽 위도" (예: 128.9,35.0,129.3,35.3)
+     * @param zoom 지도 줌 레벨
+     * @return 영역과 겹치는 타일의 클러스터 목록
+     */
+    @GetMapping("/clusters")
+    public ResponseEntity<List<PotClusterDto>> getClusters(
+            @RequestParam("bbox") String bbox,
+            @RequestParam("zoom") int zoom) {
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("bbox는 '서쪽 경도,남쪽 위도,동쪽 경도,북쪽 위도' 형식이어야 합니다.");
+        }
+        double[] values = new double[4];
+        for (int i = 0; i < 4; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+
+        return ResponseEntity.ok().cacheControl(HttpCacheConfig.listCacheControl()).body(potClusterIndex.findClusters(values[0], values[1], values[2], values[3], zoom));
+    }
+
+    /**
+     * 확대된 지도의 팟 레이어를 Mapbox Vector Tile(MVT) 바이너리로 조회하는 API
+     * 팟마다 potId, category, status, currentHeadcount, maximumHeadcount 속성을 가진 점 피처가 "pots" 레이어에 담깁니다.
+     * 요청의 If-None-Match가 현재 타일의 ETag와 같다면 본문 없이 304 (Not Modified)를 반환합니다.
+     * @param z 줌 레벨 (PotTileService.MIN_ZOOM ~ MAX_ZOOM)
+     * @param x 타일 x 좌표
+     * @param y 타일 y 좌표 (북쪽이 0)
+     * @return 인코딩된 타일
+     */
+    @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getTile(
+            @PathVariable("z") int z,
+            @PathVariable("x") int x,
+            @PathVariable("y") int y) {
+        PotTileService.TileBytes tile = potTileService.getTile(z, x, y);
 
-        return ResponseEntity.ok(pots);
+        // GET 요청의 응답에 ETag가 있으면 Spring MVC가 If-None-Match와 비교하여 304 응답으로 바꿔줍니다.
+        return ResponseEntity.ok()
+                .contentType(MVT_MEDIA_TYPE)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic())
+                .eTag(tile.etag())
+                .body(tile.data());
     }
 }
@@ -0,0 +1,64 @@
+package com.subdivision.subdivision_prj.domain;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 중심 좌표와 반경(km)을 감싸는 위도/경도 사각형(Bounding Box)입니다.
+ * 정확한 거리 계산 전에 후보를 빠르게 줄이는 1차 필터로 사용됩니다.
+ * @author subdivision
+ */
+@Getter
+public class GeoBoundingBox {
+
+    // 위도 1도에 해당하는 거리(km)
+    public static final double KM_PER_DEGREE = 111.32;
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    private GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    /**
+     * 중심점으로부터 반경(km)을 모두 포함하는 사각형을 계산합니다.
+     * 경도 1도의 거리는 위도가 높아질수록 cos(위도)에 비례해 줄어들므로, 경도 폭을 그만큼 넓혀줍니다.
+     */
+    public static GeoBoundingBox around(double lat, double lon, double distanceKm) {
+        double latDelta = distanceKm / KM_PER_DEGREE;
+        double lonDelta = distanceKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        return new GeoBoundingBox(
+                Math.max(lat - latDelta, -90), Math.min(lat + latDelta, 90),
+                lon - lonDelta, lon + lonDelta);
+    }
+
+    /**
+     * 위도/경도 범위로 사각형을 만듭니다.
+     */
+    public static GeoBoundingBox of(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        return new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    /**
+     * 좌표가 사각형 안(경계 포함)에 있는지 판정합니다.
+     */
+    public boolean contains(double lat, double lon) {
+        return lat >= minLatitude && lat <= maxLatitude && lon >= minLongitude && lon <= maxLongitude;
+    }
+
+    /**
+     * MySQL의 ST_GeomFromText(..., 'axis-order=long-lat')에 전달할 WKT 형식의 다각형 문자열을 반환합니다.
+     */
+    public String toWkt() {
+        // 로케일에 따라 소수점이 쉼표로 바뀌지 않도록 Locale.ROOT를 사용합니다.
+        return String.format(Locale.ROOT, "POLYGON((%1$f %3$f, %2$f %3$f, %2$f %4$f, %1$f %4$f, %1$f %3$f))",
+                minLongitude, maxLongitude, minLatitude, maxLatitude);
+    }
+}
@@ -0,0 +1,209 @@
+package com.subdivision.subdivision_prj.domain;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 한 중심점과 반경에 대해 많은 좌표의 포함 여부를 한꺼번에 판정하는 거리 계산 커널입니다.
+ * 중심점의 삼각함수 값과 반경에 해당하는 "현(chord) 길이의 제곱"을 생성 시 한 번만 계산해 두고,
+ * 각 좌표는 현 길이의 제곱을 이 임계값과 비교하기만 하므로 atan2, sqrt 없이 판정합니다.
+ * (구면 위 두 점 사이의 현 길이 c와 중심각 θ는 c = 2·sin(θ/2)로 단조 증가 관계이므로, 거리 비교와 결과가 같습니다)
+ * 좌표는 엔티티 목록 대신 위도/경도(double[]) 또는 단위 벡터(double[]) 배열로 받으며, 배열이 크면 ForkJoin으로 나누어 처리합니다.
+ * @author subdivision
+ */
+public final class GeoDistanceKernel {
+
+    public static final double EARTH_RADIUS_KM = 6371;
+    // 이 개수 이상의 좌표는 ForkJoin 공용 풀에서 나누어 처리합니다. (그보다 작으면 작업 분할 비용이 더 큽니다)
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    private final double centerLatRadians;
+    private final double centerLonRadians;
+    private final double centerCosLat;
+    // 중심점의 단위 벡터 (x, y, z)
+    private final double centerX;
+    private final double centerY;
+    private final double centerZ;
+    // 반경에 해당하는 현 길이의 제곱 (단위 구 기준)
+    private final double maxChordSquared;
+
+    private GeoDistanceKernel(double lat, double lon, double radiusKm) {
+        this.centerLatRadians = Math.toRadians(lat);
+        this.centerLonRadians = Math.toRadians(lon);
+        this.centerCosLat = Math.cos(centerLatRadians);
+        this.centerX = centerCosLat * Math.cos(centerLonRadians);
+        this.centerY = centerCosLat * Math.sin(centerLonRadians);
+        this.centerZ = Math.sin(centerLatRadians);
+        // 반경이 지구 반 바퀴 이상이면 모든 좌표가 포함되도록 중심각을 π로 제한합니다.
+        double halfAngle = Math.min(radiusKm / EARTH_RADIUS_KM, Math.PI) / 2;
+        double sinHalfAngle = Math.sin(halfAngle);
+        this.maxChordSquared = 4 * sinHalfAngle * sinHalfAngle;
+    }
+
+    /**
+     * 중심점과 반경(km)에 대한 커널을 생성합니다.
+     */
+    public static GeoDistanceKernel around(double lat, double lon, double radiusKm) {
+        return new GeoDistanceKernel(lat, lon, radiusKm);
+    }
+
+    /**
+     * 위도/경도 배열을 단위 벡터 배열(x, y, z 순서로 이어 붙인 길이 3n의 배열)로 변환합니다.
+     * 같은 좌표 집합에 여러 번 검색한다면 한 번만 변환해 두고 select(double[], int[])를 사용하면, 좌표마다 삼각함수를 계산하지 않습니다.
+     */
+    public static double[] toUnitVectors(double[] lats, double[] lons) {
+        double[] unitVectors = new double[lats.length * 3];
+        for (int i = 0; i < lats.length; i++) {
+            double latRadians = Math.toRadians(lats[i]);
+            double lonRadians = Math.toRadians(lons[i]);
+            double cosLat = Math.cos(latRadians);
+            unitVectors[i * 3] = cosLat * Math.cos(lonRadians);
+            unitVectors[i * 3 + 1] = cosLat * Math.sin(lonRadians);
+            unitVectors[i * 3 + 2] = Math.sin(latRadians);
+        }
+        return unitVectors;
+    }
+
+    /**
+     * 한 좌표가 반경 안에 있는지 판정합니다.
+     */
+    public boolean contains(double lat, double lon) {
+        return chordSquared(lat, lon) <= maxChordSquared;
+    }
+
+    /**
+     * 반경 안에 있는 좌표의 배열 위치(index)를 오름차순으로 out에 채웁니다.
+     * @param out 결과를 담을 배열 (좌표 수 이상의 길이)
+     * @return out에 채운 개수
+     */
+    public int select(double[] lats, double[] lons, int[] out) {
+        return select(new LatLonTask(lats, lons, out, 0, lats.length));
+    }
+
+    /**
+     * 단위 벡터 배열(toUnitVectors의 결과)에서 반경 안에 있는 좌표의 위치를 오름차순으로 out에 채웁니다.
+     * 좌표마다 곱셈과 덧셈만 수행합니다.
+     * @param out 결과를 담을 배열 (좌표 수 이상의 길이)
+     * @return out에 채운 개수
+     */
+    public int select(double[] unitVectors, int[] out) {
+        return select(new UnitVectorTask(unitVectors, out, 0, unitVectors.length / 3));
+    }
+
+    /**
+     * 중심점으로부터의 거리(km)를 계산합니다. 판정을 통과한 좌표에 대해서만 호출하는 용도입니다.
+     */
+    public double distanceKm(double lat, double lon) {
+        return EARTH_RADIUS_KM * 2 * Math.asin(Math.min(1, Math.sqrt(chordSquared(lat, lon)) / 2));
+    }
+
+    /**
+     * 단위 구 위에서 중심점과 좌표 사이의 현 길이의 제곱을 계산합니다.
+     * 현 길이의 제곱 = 4 · (sin²(Δ위도/2) + cos(위도1)·cos(위도2)·sin²(Δ경도/2)) 이므로 atan2, sqrt가 필요 없습니다.
+     */
+    private double chordSquared(double lat, double lon) {
+        double latRadians = Math.toRadians(lat);
+        double sinHalfDeltaLat = Math.sin((latRadians - centerLatRadians) / 2);
+        double sinHalfDeltaLon = Math.sin((Math.toRadians(lon) - centerLonRadians) / 2);
+        return 4 * (sinHalfDeltaLat * sinHalfDeltaLat
+                + centerCosLat * Math.cos(latRadians) * sinHalfDeltaLon * sinHalfDeltaLon);
+    }
+
+    private static int select(SelectTask task) {
+        if (task.to - task.from < PARALLEL_THRESHOLD) {
+            return task.compute();
+        }
+        return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    /**
+     * 구간 [from, to)의 좌표를 판정하는 작업입니다.
+     * 각 구간은 out의 자기 구간 시작 위치부터 결과를 채우고, 합칠 때 오른쪽 결과를 왼쪽 결과 바로 뒤로 옮깁니다.
+     * (구간의 결과 수는 구간 길이를 넘지 않으므로 서로 겹치지 않고, 추가 배열 없이 순서가 유지됩니다)
+     */
+    private abstract static class SelectTask extends RecursiveTask<Integer> {
+        final int[] out;
+        final int from;
+        final int to;
+
+        SelectTask(int[] out, int from, int to) {
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        abstract SelectTask split(int from, int to);
+
+        abstract int scan();
+
+        @Override
+        protected Integer compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                return scan();
+            }
+            int mid = (from + to) >>> 1;
+            SelectTask left = split(from, mid);
+            SelectTask right = split(mid, to);
+            right.fork();
+            int leftCount = left.compute();
+            int rightCount = right.join();
+            System.arraycopy(out, mid, out, from + leftCount, rightCount);
+            return leftCount + rightCount;
+        }
+    }
+
+    private final class LatLonTask extends SelectTask {
+        private final double[] lats;
+        private final double[] lons;
+
+        LatLonTask(double[] lats, double[] lons, int[] out, int from, int to) {
+            super(out, from, to);
+            this.lats = lats;
+            this.lons = lons;
+        }
+
+        @Override
+        SelectTask split(int from, int to) {
+            return new LatLonTask(lats, lons, out, from, to);
+        }
+
+        @Override
+        int scan() {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (chordSquared(lats[i], lons[i]) <= maxChordSquared) {
+                    out[from + count++] = i;
+                }
+            }
+            return count;
+        }
+    }
+
+    private final class UnitVectorTask extends SelectTask {
+        private final double[] unitVectors;
+
+        UnitVectorTask(double[] unitVectors, int[] out, int from, int to) {
+            super(out, from, to);
+            this.unitVectors = unitVectors;
+        }
+
+        @Override
+        SelectTask split(int from, int to) {
+            return new UnitVectorTask(unitVectors, out, from, to);
+        }
+
+        @Override
+        int scan() {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                double dx = unitVectors[i * 3] - centerX;
+                double dy = unitVectors[i * 3 + 1] - centerY;
+                double dz = unitVectors[i * 3 + 2] - centerZ;
+                if (dx * dx + dy * dy + dz * dz <= maxChordSquared) {
+                    out[from + count++] = i;
+                }
+            }
+            return count;
+        }
+    }
+}
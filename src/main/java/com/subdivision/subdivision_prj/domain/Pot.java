@@ -6,6 +6,10 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Point;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,7 +21,13 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA는 기본 생성자를 필요로 합니다. protected로 설정하여 무분별한 객체 생성을 방지합니다.
-@Table(name = "pots")
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "pots", indexes = {
+        // 사각형(Bounding Box) 범위 검색을 위한 복합 인덱스입니다.
+        @Index(name = "idx_pots_lat_lon", columnList = "latitude, longitude"),
+        // 가격순 커서 페이징을 위한 인덱스입니다.
+        @Index(name = "idx_pots_price", columnList = "price")
+})
 public class Pot {
 
     @Id
@@ -51,6 +61,13 @@ public class Pot {
     @Column(nullable = false)
     private Double longitude; // 게시물의 위치 정보 (경도)
 
+    // 위도/경도로부터 MySQL이 자동으로 계산하는 공간 좌표 컬럼입니다. (SPATIAL INDEX 대상)
+    // 생성 컬럼(GENERATED)이므로 애플리케이션에서는 값을 쓰지 않고 읽기만 합니다.
+    // SPATIAL INDEX는 JPA 어노테이션으로 만들 수 없으므로 import.sql에서 생성합니다.
+    @Column(insertable = false, updatable = false,
+            columnDefinition = "POINT SRID 4326 GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL")
+    private Point location;
+
     private String address; // 주소
     private String detailAddress; // 상세주소
 
@@ -79,6 +96,15 @@ public class Pot {
     @Column(nullable = false)
     private Integer price; // 가격 정보
 
+    // 팟이 수정될 때마다(참여 인원 변경 포함) 1씩 증가하는 버전입니다.
+    // 동시 수정을 감지하는 낙관적 잠금(Optimistic Lock)과, 상세 조회 API의 ETag에 사용합니다.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @LastModifiedDate // 엔티티가 생성/수정될 때의 시간을 자동으로 저장 (상세 조회 API의 Last-Modified에 사용)
+    private LocalDateTime updatedAt;
+
     /**
      * 빌더 패턴을 사용하여 Pot 객체를 생성하는 생성자입니다.
      * 객체의 일관성을 유지하며 가독성을 높여줍니다.
@@ -126,34 +152,5 @@ public class Pot {
             this.imageUrl = requestDto.getImageUrl();
         }
     }
-
-    /**
-     * 팟에 새로운 참여자가 들어왔을 때, 현재 인원을 1 증가시키고 상태를 업데이트합니다.
-     */
-    public void addParticipant() {
-        if(this.currentHeadcount >= this.maximumHeadcount) {
-            throw new IllegalArgumentException("모집 인원이 마감되었습니다.");
-        }
-        this.currentHeadcount++;
-        // 인원 수가 최대치에 도달하면 상태를 '모집완료'로 변경합니다.
-        if(this.currentHeadcount == this.maximumHeadcount) {
-            this.status = PotStatus.COMPLETED;
-        }
-    }
-
-    /**
-     * 팟에서 기존 참여자가 나갔을 때, 현재 인원을 1 감소시키고 상태를 업데이트합니다.
-     */
-    public void removeParticipant() {
-        if(this.currentHeadcount <= 1) {
-            // 최소 1명(작성자)은 있어야 하므로 1 이하로 내려갈 수 없습니다.
-            throw new IllegalArgumentException("작성자는 팟을 나갈 수 없습니다.");
-        }
-        this.currentHeadcount--;
-        // 인원 수가 최대치 미만으로 떨어지면 상태를 다시 '모집중'으로 변경합니다.
-        if(this.currentHeadcount < this.maximumHeadcount) {
-            this.status = PotStatus.RECRUITING;
-        }
-    }
 }
 
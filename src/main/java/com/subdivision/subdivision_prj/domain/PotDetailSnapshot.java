@@ -0,0 +1,49 @@
+package com.subdivision.subdivision_prj.domain;
+
+import java.util.List;
+
+/**
+ * 팟 상세 화면에서 사용자와 관계없이 같은 부분(본문, 작성자 닉네임, 참여자 목록)을 한 버전 기준으로 담은 스냅샷입니다.
+ * 팟의 버전(version)이 같다면 내용도 같으므로, 서버 메모리와 Redis에 그대로 캐시할 수 있습니다.
+ * 이미지는 Presigned URL이 아닌 S3 경로(key)로 보관하고, 현재 사용자의 참여 여부는 포함하지 않습니다. (조회할 때마다 따로 확인)
+ * @author subdivision
+ */
+public record PotDetailSnapshot(
+        Long potId,
+        long version,
+        String title,
+        String content,
+        String productName,
+        Integer price,
+        int maximumHeadcount,
+        int currentHeadcount,
+        String authorNickname,
+        Double latitude,
+        Double longitude,
+        String imageKey,
+        String address,
+        String detailAddress,
+        PotCategory category,
+        List<Member> members
+) {
+
+    /**
+     * 참여자의 닉네임
+     */
+    public record Member(String nickname) {
+    }
+
+    /**
+     * 작성자와 참여자(및 참여자의 사용자 정보)가 로딩된 Pot 엔티티로부터 스냅샷을 생성합니다.
+     */
+    public static PotDetailSnapshot from(Pot pot) {
+        List<Member> members = pot.getMembers().stream()
+                .map(member -> new Member(member.getUser().getNickname()))
+                .toList();
+        return new PotDetailSnapshot(pot.getId(), pot.getVersion() == null ? 0 : pot.getVersion(),
+                pot.getTitle(), pot.getContent(), pot.getProductName(), pot.getPrice(),
+                pot.getMaximumHeadcount(), pot.getCurrentHeadcount(), pot.getUser().getNickname(),
+                pot.getLatitude(), pot.getLongitude(), pot.getImageUrl(), pot.getAddress(), pot.getDetailAddress(),
+                pot.getCategory(), members);
+    }
+}
@@ -0,0 +1,29 @@
+package com.subdivision.subdivision_prj.domain;
+
+import lombok.Getter;
+
+/**
+ * 키워드 역색인(PotKeywordIndex) 구축에 필요한 팟의 텍스트와 필터 정보만 담은 조회용 객체입니다.
+ * @author subdivision
+ */
+@Getter
+public class PotKeywordDocument {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String productName;
+    private final PotCategory category;
+    private final PotStatus status;
+
+    // JPQL의 생성자 표현식(select new ...)에서 사용되는 생성자입니다.
+    public PotKeywordDocument(Long id, String title, String content, String productName,
+                              PotCategory category, PotStatus status) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.productName = productName;
+        this.category = category;
+        this.status = status;
+    }
+}
@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "pot_members")
+@Table(name = "pot_members", uniqueConstraints = {
+        // 같은 사용자가 같은 팟에 두 번 참여할 수 없도록 DB에서 보장합니다. (참여 여부 확인도 이 인덱스로 처리합니다)
+        @UniqueConstraint(name = "uk_pot_members_pot_user", columnNames = {"pot_id", "user_id"})
+})
 public class PotMember {
 
     @Id
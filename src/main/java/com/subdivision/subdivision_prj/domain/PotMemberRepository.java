@@ -1,6 +1,9 @@
 package com.subdivision.subdivision_prj.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +18,16 @@ public interface PotMemberRepository extends JpaRepository <PotMember, Long> {
     //특정 팟(Pot)과 사용자(User)에 해당하는 PotMember 엔티티의 개수를 반환합니다.
     long countByPotAndUser(Pot pot, User user);
 
+    //이메일로 식별한 사용자가 특정 팟에 참여했는지 확인합니다. (팟과 참여자 목록을 로딩하지 않고, (pot_id, user_id) 인덱스로 확인)
+    boolean existsByPot_IdAndUser_Email(Long potId, String email);
+
+    //특정 팟에서 사용자의 참여 기록을 한 번의 DELETE로 삭제하고, 삭제한 행 수를 반환합니다. (참여하지 않았다면 0)
+    @Modifying
+    @Query("DELETE FROM PotMember pm WHERE pm.pot.id = :potId AND pm.user.id = :userId")
+    int deleteByPotIdAndUserId(@Param("potId") Long potId, @Param("userId") Long userId);
+
+    //이메일로 식별한 사용자가 참여한 모든 팟의 ID를 조회합니다. (사용자별 참여 팟 캐시를 채울 때 사용)
+    @Query("SELECT pm.pot.id FROM PotMember pm WHERE pm.user.email = :email")
+    List<Long> findPotIdsByUserEmail(@Param("email") String email);
+
 }
@@ -1,10 +1,15 @@
 package com.subdivision.subdivision_prj.domain;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * JpaRepository<T,ID> 인터페이스를 상속받습니다.
@@ -15,28 +20,175 @@ public interface PotRepository extends JpaRepository<Pot, Long>, JpaSpecificatio
     //기본적인 CRUD 메서드(save, findById, findAll, delete 등)는
     //JpaRepository에 이미 구현되어 있으므로 따로 작성할 필요가 없습니다.
 
+    // ngram 파서의 토큰 크기(ngram_token_size 기본값 2)보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없습니다.
+    int FULLTEXT_MIN_KEYWORD_LENGTH = 2;
+
+    // 목록/검색 API는 조회 모델(PotSummaryRepository)을 읽습니다. Pot 엔티티를 여러 건 로딩하는 곳은 상세 조회뿐이므로,
+    // 작성자와 참여자를 함께 조회하는 @EntityGraph는 상세 조회용 쿼리(findDetailById, findDetailsByIdIn)에만 둡니다.
+
     /**
-     * PostgreSQL (PostGIS)를 사용하여 특정 지점 반경 내의 Pot을 검색합니다.
-     * ST_DWithin 함수는 거리 계싼과 범위 조회를 한 번에 처리하며, 공간 인덱스를 활용하여 성능이 매우 뛰어납니다.
+     * MySQL의 공간 함수를 사용하여 특정 지점 반경 내에서 해당 상태인 Pot ID를 가까운 순서대로 검색합니다.
+     * 목록 응답은 조회 모델(pot_summary)로 만들므로, 여기서는 엔티티 대신 ID만 조회합니다.
+     * MBRContains가 location 컬럼의 SPATIAL INDEX로 사각형 안의 후보를 먼저 추려내고,
+     * ST_Distance_Sphere가 그 후보들에 대해서만 정확한 구면 거리를 계산합니다.
      *
-     * @param lon      중심점의 경도(longitude)
-     * @param lat      중심점의 위도(latitude)
-     * @param distance 검색 반경(km단위)
-     * @return 검색 조건에 맞는 Pot 엔티티 리스트
-     * @ST_DWithin: 두 지점 사이의 지정된 거리 이내인지 boolean으로 반환하는 함수
-     * @ST_SetSRID(ST_MakePoint(경도,위도), 4326): 경도, 위도 값을 SRID 4326(WGS84) 좌표계의 geometry 타입 포인트로 생성
-     * @::geography: geometry 타입을 구면 거리 계산에 적합한 geography 타입으로 형변환
-     */
-    @Query(value = "SELECT * FROM pots p WHERE ST_DWithin(" +
-            "ST_SetSRID(ST_MakePoint(p.longitude, p.latitude), 4326)::geography, " +
-            "ST_SetSRID(ST_MakePoint(:lon, :lat), 4326)::geography, " +
-            ":distance * 1000)",
+     * @param boundingBox 반경을 감싸는 사각형의 WKT 문자열 (경도 위도 순서)
+     * @param lon         중심점의 경도(longitude)
+     * @param lat         중심점의 위도(latitude)
+     * @param distance    검색 반경(km단위)
+     * @param status      팟 상태 (PotStatus의 이름)
+     * @return 검색 조건에 맞는 Pot ID 리스트 (가까운 순)
+     * @MBRContains: 첫 번째 도형의 최소 경계 사각형(MBR)이 두 번째 도형을 포함하는지 반환하는 함수 (공간 인덱스 사용)
+     * @ST_SRID(POINT(경도,위도), 4326): 경도, 위도 값을 SRID 4326(WGS84) 좌표계의 포인트로 생성
+     * @ST_Distance_Sphere: 두 포인트 사이의 구면 거리를 미터 단위로 반환하는 함수
+     */
+    @Query(value = "SELECT p.pot_id FROM pots p " +
+            "WHERE MBRContains(ST_GeomFromText(:boundingBox, 4326, 'axis-order=long-lat'), p.location) " +
+            "AND ST_Distance_Sphere(p.location, ST_SRID(POINT(:lon, :lat), 4326)) <= :distance * 1000 " +
+            "AND p.status = :status " +
+            "ORDER BY ST_Distance_Sphere(p.location, ST_SRID(POINT(:lon, :lat), 4326))",
             nativeQuery = true)
-    List<Pot> findPotsByLocation(
+    List<Long> findPotIdsByLocation(
+            @Param("boundingBox") String boundingBox,
             @Param("lon") Double lon,
             @Param("lat") Double lat,
-            @Param("distance") Double distance);
+            @Param("distance") Double distance,
+            @Param("status") String status);
 
     //User 엔티티를 기준으로 모든 Pot을 조회하는 메서드
     List<Pot> findAllByUser(User user);
+
+    /**
+     * 공간 인덱스(PotGeoIndex) 구축을 위해 모든 팟의 좌표와 상태만 조회합니다.
+     * 연관 엔티티를 로딩하지 않는 생성자 표현식을 사용하여 메모리 사용량을 최소화합니다.
+     */
+    @Query("SELECT new com.subdivision.subdivision_prj.domain.PotSnapshot(" +
+            "p.id, p.latitude, p.longitude, p.category, p.status, p.currentHeadcount, p.maximumHeadcount) " +
+            "FROM Pot p")
+    List<PotSnapshot> findAllSnapshots();
+
+    /**
+     * 여러 팟의 스냅샷만 한 번의 IN 쿼리로 조회합니다. (존재하지 않는 ID는 결과에서 빠집니다)
+     * Redis GEO 집합을 재구축하는 동안 변경된 팟을 다시 반영할 때 사용합니다.
+     */
+    @Query("SELECT new com.subdivision.subdivision_prj.domain.PotSnapshot(" +
+            "p.id, p.latitude, p.longitude, p.category, p.status, p.currentHeadcount, p.maximumHeadcount) " +
+            "FROM Pot p WHERE p.id IN :ids")
+    List<PotSnapshot> findSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 위도/경도 범위 안에 있는 팟의 스냅샷을 조회합니다. (idx_pots_lat_lon 인덱스 사용)
+     * 공간 인덱스(PotGeoIndex)가 준비되기 전에 지도 타일을 만들 때 사용합니다.
+     */
+    @Query("SELECT new com.subdivision.subdivision_prj.domain.PotSnapshot(" +
+            "p.id, p.latitude, p.longitude, p.category, p.status, p.currentHeadcount, p.maximumHeadcount) " +
+            "FROM Pot p " +
+            "WHERE p.latitude BETWEEN :minLat AND :maxLat AND p.longitude BETWEEN :minLon AND :maxLon")
+    List<PotSnapshot> findSnapshotsInBox(@Param("minLat") double minLat, @Param("maxLat") double maxLat,
+                                         @Param("minLon") double minLon, @Param("maxLon") double maxLon);
+
+    /**
+     * 키워드 역색인(PotKeywordIndex) 구축을 위해 모든 팟의 텍스트와 카테고리/상태만 조회합니다.
+     */
+    @Query("SELECT new com.subdivision.subdivision_prj.domain.PotKeywordDocument(" +
+            "p.id, p.title, p.content, p.productName, p.category, p.status) FROM Pot p")
+    List<PotKeywordDocument> findAllKeywordDocuments();
+
+    /**
+     * 키워드 역색인의 증분 갱신을 위해 특정 팟의 텍스트와 카테고리/상태만 조회합니다.
+     */
+    @Query("SELECT new com.subdivision.subdivision_prj.domain.PotKeywordDocument(" +
+            "p.id, p.title, p.content, p.productName, p.category, p.status) FROM Pot p WHERE p.id = :id")
+    Optional<PotKeywordDocument> findKeywordDocumentById(@Param("id") Long id);
+
+    /**
+     * 팟의 버전과 마지막 수정 시각만 기본 키로 조회합니다.
+     * 상세 조회 API가 If-None-Match를 비교할 때 사용하며, 팟 엔티티와 연관 엔티티를 로딩하지 않습니다.
+     */
+    @Query("SELECT new com.subdivision.subdivision_prj.domain.PotVersion(p.id, p.version, p.updatedAt) FROM Pot p WHERE p.id = :id")
+    Optional<PotVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 상세 조회용으로 팟과 작성자, 참여자, 참여자의 사용자 정보를 한 번의 쿼리로 함께 조회합니다.
+     */
+    @EntityGraph(attributePaths = {"user", "members", "members.user"})
+    @Query("SELECT p FROM Pot p WHERE p.id = :id")
+    Optional<Pot> findDetailById(@Param("id") Long id);
+
+    /**
+     * 여러 팟의 버전과 수정 시각만 한 번의 IN 쿼리로 조회합니다. (존재하지 않는 ID는 결과에서 빠집니다)
+     */
+    @Query("SELECT new com.subdivision.subdivision_prj.domain.PotVersion(p.id, p.version, p.updatedAt) FROM Pot p WHERE p.id IN :ids")
+    List<PotVersion> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 팟을 작성자, 참여자, 참여자의 사용자 정보와 함께 한 번의 IN 쿼리로 조회합니다.
+     */
+    @EntityGraph(attributePaths = {"user", "members", "members.user"})
+    @Query("SELECT DISTINCT p FROM Pot p WHERE p.id IN :ids")
+    List<Pot> findDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 사용자가 작성했거나 참여한 모든 팟의 버전을 올립니다.
+     * 상세 응답에 포함된 작성자/참여자 닉네임이 바뀌었을 때, 클라이언트가 가진 ETag가 더 이상 맞지 않도록 합니다.
+     * @return 버전을 올린 팟 수
+     */
+    @Modifying
+    @Query("UPDATE Pot p SET p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.user.id = :userId OR p.id IN (SELECT pm.pot.id FROM PotMember pm WHERE pm.user.id = :userId)")
+    int touchPotsOfUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // [핵심] 참여/참여취소는 인원 확인과 변경을 조건부 UPDATE 한 문장으로 처리합니다.
+    // 조건을 만족할 때만 1행이 바뀌므로, 마지막 자리에 동시에 참여해도 한 요청만 성공하고 인원이 최대치를 넘지 않습니다.
+    // 상태(status)는 인원을 바꾸기 전 값으로 계산하도록 먼저 대입합니다. (MySQL은 SET 절을 왼쪽부터 차례로 반영합니다)
+
+    /**
+     * 자리가 남아 있다면 현재 인원을 1 늘리고, 최대 인원에 도달하면 '모집완료'로 바꿉니다. (버전과 수정 시각도 갱신)
+     * @return 변경된 행 수 (팟이 없거나 이미 가득 찼다면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pot p SET " +
+            "p.status = CASE WHEN p.currentHeadcount + 1 >= p.maximumHeadcount " +
+            "THEN com.subdivision.subdivision_prj.domain.PotStatus.COMPLETED ELSE p.status END, " +
+            "p.currentHeadcount = p.currentHeadcount + 1, p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.currentHeadcount < p.maximumHeadcount")
+    int incrementHeadcount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 작성자 외의 참여자가 있다면 현재 인원을 1 줄이고, 최대 인원 미만이 되면 '모집중'으로 바꿉니다. (버전과 수정 시각도 갱신)
+     * @return 변경된 행 수 (팟이 없거나 작성자만 남아 있다면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pot p SET " +
+            "p.status = CASE WHEN p.currentHeadcount - 1 < p.maximumHeadcount " +
+            "THEN com.subdivision.subdivision_prj.domain.PotStatus.RECRUITING ELSE p.status END, " +
+            "p.currentHeadcount = p.currentHeadcount - 1, p.version = p.version + 1, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.currentHeadcount > 1")
+    int decrementHeadcount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 제목, 내용, 상품명 중 하나에 키워드가 포함된 팟의 ID만 조회합니다.
+     * 엔티티 대신 ID만 가져오므로, 공간 인덱스의 후보와 교집합을 구할 때 사용합니다.
+     * FULLTEXT 인덱스로 찾을 수 없는 1글자 검색어에만 사용합니다.
+     */
+    @Query("SELECT p.id FROM Pot p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword% OR p.productName LIKE %:keyword%")
+    List<Long> findIdsByKeyword(@Param("keyword") String keyword);
+
+    /**
+     * FULLTEXT(ngram) 인덱스를 사용하여 키워드에 맞는 팟의 ID를 관련도 높은 순서로 조회합니다.
+     * @param query BOOLEAN MODE 검색어 (toFullTextQuery로 변환된 값)
+     */
+    @Query(value = "SELECT p.pot_id FROM pots p " +
+            "WHERE MATCH(p.title, p.content, p.product_name) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(p.title, p.content, p.product_name) AGAINST (:query IN BOOLEAN MODE) DESC",
+            nativeQuery = true)
+    List<Long> findIdsByFullTextKeyword(@Param("query") String query);
+
+    /**
+     * 검색어를 BOOLEAN MODE의 구(phrase) 검색어로 변환합니다.
+     * 큰따옴표로 감싸면 ngram 토큰들이 연속으로 나타나는 문서만 찾으므로 LIKE '%검색어%'와 같은 결과를 얻을 수 있습니다.
+     */
+    static String toFullTextQuery(String keyword) {
+        return "\"" + keyword.replace("\"", " ").trim() + "\"";
+    }
 }
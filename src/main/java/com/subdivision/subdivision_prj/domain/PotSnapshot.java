@@ -0,0 +1,50 @@
+package com.subdivision.subdivision_prj.domain;
+
+import lombok.Getter;
+
+/**
+ * 검색 인덱스가 보관하는 팟(Pot)의 가벼운 요약 정보입니다.
+ * 연관관계(작성자, 멤버, 채팅)를 전혀 포함하지 않으므로, 수천 건을 메모리에 올려도 부담이 적습니다.
+ * @author subdivision
+ */
+@Getter
+public class PotSnapshot {
+
+    private final Long id;
+    private final double latitude;
+    private final double longitude;
+    private final PotCategory category;
+    private final PotStatus status;
+    private final int currentHeadcount;
+    private final int maximumHeadcount;
+
+    // JPQL의 생성자 표현식(select new ...)에서도 사용되는 생성자입니다.
+    public PotSnapshot(Long id, Double latitude, Double longitude, PotCategory category, PotStatus status,
+                       int currentHeadcount, int maximumHeadcount) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.category = category;
+        this.status = status;
+        this.currentHeadcount = currentHeadcount;
+        this.maximumHeadcount = maximumHeadcount;
+    }
+
+    /**
+     * Pot 엔티티의 현재 상태로부터 스냅샷을 생성합니다.
+     */
+    public static PotSnapshot from(Pot pot) {
+        return new PotSnapshot(pot.getId(), pot.getLatitude(), pot.getLongitude(), pot.getCategory(),
+                pot.getStatus(), pot.getCurrentHeadcount(), pot.getMaximumHeadcount());
+    }
+
+    /**
+     * 참여 인원만 delta만큼 달랐던 스냅샷을 만듭니다. (상태는 인원이 최대치에 도달했는지로 다시 계산합니다)
+     * 조건부 UPDATE로 인원을 바꾼 뒤, 변경 전 상태를 이벤트에 담을 때 사용합니다.
+     */
+    public PotSnapshot withHeadcountDelta(int delta) {
+        int headcount = currentHeadcount + delta;
+        PotStatus derivedStatus = headcount >= maximumHeadcount ? PotStatus.COMPLETED : PotStatus.RECRUITING;
+        return new PotSnapshot(id, latitude, longitude, category, derivedStatus, headcount, maximumHeadcount);
+    }
+}
@@ -0,0 +1,102 @@
+package com.subdivision.subdivision_prj.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팟 목록/검색 화면(카드)을 그리는 데 필요한 값만 모아 둔 조회 전용 모델입니다. ('pot_summary' 테이블과 매핑)
+ * 목록 API는 Pot 엔티티(내용 TEXT, 참여자, 채팅 연관관계) 대신 이 테이블 하나만 인덱스로 읽습니다.
+ * Pot이 생성/수정/삭제되거나 참여 인원이 바뀔 때 PotService가 같은 트랜잭션 안에서 함께 갱신하고,
+ * 작성자의 닉네임이 바뀌면 MypageService가 갱신합니다.
+ * 필드 이름은 Pot과 같게 맞추어, 목록 API의 정렬 파라미터(sort=id,desc 등)를 그대로 사용할 수 있습니다.
+ * @author subdivision
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pot_summary", indexes = {
+        // 사각형(Bounding Box) 범위 검색을 위한 복합 인덱스입니다.
+        @Index(name = "idx_pot_summary_lat_lon", columnList = "latitude, longitude"),
+        // 가격순 커서 페이징을 위한 인덱스입니다.
+        @Index(name = "idx_pot_summary_price", columnList = "price"),
+        // 내가 작성한 팟 목록과 닉네임 변경 시 갱신을 위한 인덱스입니다.
+        @Index(name = "idx_pot_summary_author", columnList = "author_id")
+})
+public class PotSummary {
+
+    @Id
+    @Column(name = "pot_id")
+    private Long id; // Pot의 ID를 그대로 사용합니다.
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(nullable = false)
+    private String authorNickname;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer price;
+
+    @Column(nullable = false)
+    private int maximumHeadcount;
+
+    @Column(nullable = false)
+    private int currentHeadcount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PotStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PotCategory category;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    // Pot과 마찬가지로 Presigned URL이 아닌 S3 파일 경로(Key)를 저장합니다.
+    @Column(columnDefinition = "TEXT")
+    private String imageUrl;
+
+    private PotSummary(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Pot 엔티티로부터 요약 정보를 생성합니다.
+     */
+    public static PotSummary from(Pot pot) {
+        PotSummary summary = new PotSummary(pot.getId());
+        summary.sync(pot);
+        return summary;
+    }
+
+    /**
+     * Pot 엔티티의 현재 상태로 요약 정보를 갱신합니다.
+     */
+    public void sync(Pot pot) {
+        this.authorId = pot.getUser().getId();
+        this.authorNickname = pot.getUser().getNickname();
+        this.title = pot.getTitle();
+        this.productName = pot.getProductName();
+        this.price = pot.getPrice();
+        this.maximumHeadcount = pot.getMaximumHeadcount();
+        this.currentHeadcount = pot.getCurrentHeadcount();
+        this.status = pot.getStatus();
+        this.category = pot.getCategory();
+        this.latitude = pot.getLatitude();
+        this.longitude = pot.getLongitude();
+        this.imageUrl = pot.getImageUrl();
+    }
+}
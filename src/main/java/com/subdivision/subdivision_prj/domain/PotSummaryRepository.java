@@ -0,0 +1,100 @@
+package com.subdivision.subdivision_prj.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 팟 목록/검색용 조회 모델(PotSummary)의 레파지토리입니다.
+ * 모든 조회는 pot_summary 테이블 하나만 읽으며, 연관 엔티티를 로딩하지 않습니다.
+ */
+public interface PotSummaryRepository extends JpaRepository<PotSummary, Long>, JpaSpecificationExecutor<PotSummary> {
+
+    /**
+     * 커서 페이징(최신순): 커서의 팟 ID보다 작은(더 오래된) 팟을 ID 내림차순으로 조회합니다.
+     */
+    List<PotSummary> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    /**
+     * 커서 페이징(가격순): (가격, 팟 ID)가 커서보다 뒤에 있는 팟을 가격 오름차순으로 조회합니다.
+     */
+    @Query("SELECT s FROM PotSummary s WHERE s.price > :price OR (s.price = :price AND s.id > :id) ORDER BY s.price ASC, s.id ASC")
+    List<PotSummary> findAfterPriceCursor(@Param("price") Integer price, @Param("id") Long id, Pageable pageable);
+
+    //특정 사용자가 작성한 팟 목록을 최신순으로 조회하는 메서드
+    List<PotSummary> findAllByAuthorIdOrderByIdDesc(Long authorId);
+
+    //특정 사용자가 참여한 팟 목록을 최신순으로 조회하는 메서드 (참여 정보는 ID로만 확인하고, 팟 엔티티는 로딩하지 않습니다)
+    @Query("SELECT s FROM PotSummary s WHERE s.id IN (SELECT pm.pot.id FROM PotMember pm WHERE pm.user = :user) ORDER BY s.id DESC")
+    List<PotSummary> findAllJoinedBy(@Param("user") User user);
+
+    /**
+     * 작성자의 닉네임이 바뀌었을 때, 그 사용자가 작성한 모든 팟의 작성자 닉네임을 한 번의 UPDATE로 갱신합니다.
+     */
+    @Modifying
+    @Query("UPDATE PotSummary s SET s.authorNickname = :nickname WHERE s.authorId = :authorId")
+    int updateAuthorNickname(@Param("authorId") Long authorId, @Param("nickname") String nickname);
+
+    /**
+     * 참여/참여취소로 바뀐 팟의 현재 인원과 상태를 pots 테이블에서 한 번의 UPDATE로 복사합니다.
+     * 참여 트랜잭션 안에서 실행하므로, 아직 커밋되지 않은 인원 변경도 함께 복사되고 함께 커밋됩니다.
+     * @return 갱신한 행 수 (요약 정보가 아직 없다면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE pot_summary SET " +
+            "current_headcount = (SELECT p.current_headcount FROM pots p WHERE p.pot_id = :potId), " +
+            "status = (SELECT p.status FROM pots p WHERE p.pot_id = :potId) " +
+            "WHERE pot_id = :potId",
+            nativeQuery = true)
+    int copyHeadcountFromPot(@Param("potId") Long potId);
+
+    /**
+     * 현재 인원이나 상태가 pots 테이블과 다른 요약 정보를 다시 복사합니다.
+     * @return 갱신한 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE pot_summary SET " +
+            "current_headcount = (SELECT p.current_headcount FROM pots p WHERE p.pot_id = pot_summary.pot_id), " +
+            "status = (SELECT p.status FROM pots p WHERE p.pot_id = pot_summary.pot_id) " +
+            "WHERE EXISTS (SELECT 1 FROM pots p WHERE p.pot_id = pot_summary.pot_id " +
+            "AND (p.current_headcount <> pot_summary.current_headcount OR p.status <> pot_summary.status))",
+            nativeQuery = true)
+    int resyncHeadcounts();
+
+    /**
+     * 현재 인원이나 상태가 pots 테이블과 다른 요약 정보의 수를 셉니다.
+     */
+    @Query(value = "SELECT COUNT(*) FROM pot_summary s JOIN pots p ON p.pot_id = s.pot_id " +
+            "WHERE p.current_headcount <> s.current_headcount OR p.status <> s.status",
+            nativeQuery = true)
+    long countOutOfSync();
+
+    /**
+     * pot_summary에 없는 팟의 요약 정보를 pots 테이블에서 채워 넣습니다.
+     * 조회 모델을 도입하기 전에 만들어진 팟을 옮기거나, DB를 직접 수정한 뒤 맞출 때 사용합니다.
+     * @return 새로 채워 넣은 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pot_summary (pot_id, author_id, author_nickname, title, product_name, price, " +
+            "maximum_headcount, current_headcount, status, category, latitude, longitude, image_url) " +
+            "SELECT p.pot_id, p.user_id, u.nickname, p.title, p.product_name, p.price, " +
+            "p.maximum_headcount, p.current_headcount, p.status, p.category, p.latitude, p.longitude, p.image_url " +
+            "FROM pots p JOIN users u ON u.user_id = p.user_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM pot_summary s WHERE s.pot_id = p.pot_id)",
+            nativeQuery = true)
+    int backfillMissing();
+
+    /**
+     * pots 테이블에서 사라진 팟의 요약 정보를 삭제합니다.
+     * @return 삭제한 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM pot_summary WHERE NOT EXISTS (SELECT 1 FROM pots p WHERE p.pot_id = pot_summary.pot_id)",
+            nativeQuery = true)
+    int deleteOrphans();
+}
@@ -0,0 +1,10 @@
+package com.subdivision.subdivision_prj.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팟의 버전과 마지막 수정 시각입니다. (조건부 GET을 판단할 때 Pot 엔티티 대신 조회합니다)
+ * @param updatedAt 수정 시각 컬럼을 추가하기 전에 만들어진 팟은 null일 수 있습니다.
+ */
+public record PotVersion(Long potId, Long version, LocalDateTime updatedAt) {
+}
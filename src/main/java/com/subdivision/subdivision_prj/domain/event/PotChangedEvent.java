@@ -0,0 +1,48 @@
+package com.subdivision.subdivision_prj.domain.event;
+
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import lombok.Getter;
+
+/**
+ * 팟(Pot)이 생성, 수정, 삭제되거나 참여 인원이 바뀌었을 때 PotService가 발행하는 이벤트입니다.
+ * 검색 인덱스처럼 팟의 위치/상태를 따로 보관하는 컴포넌트들이 이 이벤트를 구독하여 자신의 데이터를 갱신합니다.
+ * @author subdivision
+ */
+@Getter
+public class PotChangedEvent {
+
+    public enum Type {
+        CREATED,    //생성
+        UPDATED,    //수정
+        DELETED,    //삭제
+        MEMBERSHIP  //참여/참여취소
+    }
+
+    private final Type type;
+    private final Long potId;
+    private final PotSnapshot previous; // 변경 전 상태 (생성 시 null)
+    private final PotSnapshot current;  // 변경 후 상태 (삭제 시 null)
+
+    private PotChangedEvent(Type type, Long potId, PotSnapshot previous, PotSnapshot current) {
+        this.type = type;
+        this.potId = potId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static PotChangedEvent created(PotSnapshot current) {
+        return new PotChangedEvent(Type.CREATED, current.getId(), null, current);
+    }
+
+    public static PotChangedEvent updated(PotSnapshot previous, PotSnapshot current) {
+        return new PotChangedEvent(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static PotChangedEvent deleted(PotSnapshot previous) {
+        return new PotChangedEvent(Type.DELETED, previous.getId(), previous, null);
+    }
+
+    public static PotChangedEvent membership(PotSnapshot previous, PotSnapshot current) {
+        return new PotChangedEvent(Type.MEMBERSHIP, current.getId(), previous, current);
+    }
+}
@@ -0,0 +1,30 @@
+package com.subdivision.subdivision_prj.domain.event;
+
+import lombok.Getter;
+
+/**
+ * 사용자가 팟에 참여하거나 참여를 취소했을 때 PotService가 발행하는 이벤트입니다.
+ * 사용자별로 참여한 팟 ID를 보관하는 캐시(JoinedPotsCache)가 이 이벤트를 구독하여 자신의 데이터를 갱신합니다.
+ * @author subdivision
+ */
+@Getter
+public class PotMemberChangedEvent {
+
+    private final Long potId;
+    private final String userEmail;
+    private final boolean joined; // true: 참여, false: 참여취소
+
+    private PotMemberChangedEvent(Long potId, String userEmail, boolean joined) {
+        this.potId = potId;
+        this.userEmail = userEmail;
+        this.joined = joined;
+    }
+
+    public static PotMemberChangedEvent joined(Long potId, String userEmail) {
+        return new PotMemberChangedEvent(potId, userEmail, true);
+    }
+
+    public static PotMemberChangedEvent left(Long potId, String userEmail) {
+        return new PotMemberChangedEvent(potId, userEmail, false);
+    }
+}
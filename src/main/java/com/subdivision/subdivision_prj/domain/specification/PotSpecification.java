@@ -1,40 +1,58 @@
 package com.subdivision.subdivision_prj.domain.specification;
 
-import com.subdivision.subdivision_prj.domain.Pot;
+import com.subdivision.subdivision_prj.domain.GeoBoundingBox;
 import com.subdivision.subdivision_prj.domain.PotCategory;
 import com.subdivision.subdivision_prj.domain.PotStatus;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
+/**
+ * 팟 검색 조건을 만드는 Specification 모음입니다.
+ * 같은 이름의 필드(id, category, status, latitude, longitude)를 가진 Pot과 PotSummary에 모두 사용할 수 있습니다.
+ * (키워드 조건은 PotRepository의 ID 조회 쿼리로 따로 처리합니다)
+ */
 @Component
 public class PotSpecification {
 
-    /**
-     * 키워드(제목, 내용, 상품명) 검색을 위한 Specification
-     */
-    public static Specification<Pot> likeKeyword(String keyword) {
-        //(root, query, criteriaBuilder) -> Predicate
-        return (root, query, cb) -> {
-            //제목(title) 또는 내용(content) 또는 상품명(productName)에 키워드가 포함되어 있는지 확인
-            return cb.or(
-                    cb.like(root.get("title"), "%" + keyword + "%"),
-                    cb.like(root.get("content"), "%" + keyword + "%"),
-                    cb.like(root.get("productName"), "%" + keyword + "%")
-            );
-        };
-    }
-
     /**
      * 카테고리 필터링을 위한 Specification
      */
-    public static Specification<Pot> equalCategory(PotCategory category) {
+    public static <T> Specification<T> equalCategory(PotCategory category) {
         return (root, query, cb) -> cb.equal(root.get("category"), category);
     }
 
     /**
      * 상태 필터링을 위한 Specification
      */
-    public static Specification<Pot> equalStatus(PotStatus status) {
+    public static <T> Specification<T> equalStatus(PotStatus status) {
         return (root, query, cb) -> cb.equal(root.get("status"), status);
     }
+
+    /**
+     * 커서 페이징(최신순)을 위해 커서보다 ID가 작은 팟만 조회하는 Specification
+     */
+    public static <T> Specification<T> idLessThan(Long id) {
+        return (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+
+    /**
+     * ID 목록(예: 키워드 검색 결과)에 포함된 팟만 조회하는 Specification
+     */
+    public static <T> Specification<T> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    /**
+     * 중심 좌표와 반경(km)을 감싸는 사각형 안의 팟만 조회하기 위한 Specification
+     * (latitude, longitude) 복합 인덱스를 타는 범위 조건이므로, 정확한 거리 계산 전에 후보를 크게 줄여줍니다.
+     */
+    public static <T> Specification<T> withinBoundingBox(double lat, double lon, double distanceKm) {
+        GeoBoundingBox box = GeoBoundingBox.around(lat, lon, distanceKm);
+        return (root, query, cb) -> cb.and(
+                cb.between(root.get("latitude"), box.getMinLatitude(), box.getMaxLatitude()),
+                cb.between(root.get("longitude"), box.getMinLongitude(), box.getMaxLongitude())
+        );
+    }
 }
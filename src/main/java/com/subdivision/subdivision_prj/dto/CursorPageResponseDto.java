@@ -0,0 +1,21 @@
+package com.subdivision.subdivision_prj.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 방식 페이징 응답 DTO입니다.
+ * 전체 개수(COUNT) 대신 다음 페이지를 조회할 때 그대로 전달하면 되는 불투명(opaque)한 커서 토큰을 담습니다.
+ */
+@Getter
+public class CursorPageResponseDto<T> {
+
+    private final List<T> content;
+    private final String next; //다음 페이지 커서 (마지막 페이지라면 null)
+
+    public CursorPageResponseDto(List<T> content, String next) {
+        this.content = content;
+        this.next = next;
+    }
+}
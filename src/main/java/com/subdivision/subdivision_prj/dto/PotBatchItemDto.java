@@ -0,0 +1,31 @@
+package com.subdivision.subdivision_prj.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 팟 일괄 조회 응답의 항목 하나입니다.
+ * 요청한 ID의 팟이 없으면(삭제되었거나 잘못된 ID) found가 false이고 pot은 응답 JSON에서 빠집니다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PotBatchItemDto {
+
+    private final Long potId;
+    private final boolean found;
+    private final PotResponseDto pot;
+
+    private PotBatchItemDto(Long potId, boolean found, PotResponseDto pot) {
+        this.potId = potId;
+        this.found = found;
+        this.pot = pot;
+    }
+
+    public static PotBatchItemDto found(PotResponseDto pot) {
+        return new PotBatchItemDto(pot.getPotId(), true, pot);
+    }
+
+    public static PotBatchItemDto notFound(Long potId) {
+        return new PotBatchItemDto(potId, false, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.subdivision.subdivision_prj.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 팟의 상세 정보를 한 번에 조회하는 요청 DTO입니다. (POST /api/pots/batch)
+ */
+@Getter
+@Setter
+public class PotBatchRequestDto {
+    private List<Long> potIds; //조회할 팟 ID 목록 (응답은 이 순서를 따릅니다)
+}
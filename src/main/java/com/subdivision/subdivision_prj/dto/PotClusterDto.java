@@ -0,0 +1,23 @@
+package com.subdivision.subdivision_prj.dto;
+
+import lombok.Getter;
+
+/**
+ * 지도 클러스터(격자 셀 하나) 응답 DTO입니다.
+ * 축소된 지도에서는 팟 목록 대신 셀별 개수와 무게중심만 내려주어 응답 크기를 줄입니다.
+ */
+@Getter
+public class PotClusterDto {
+
+    private final long count; //셀에 속한 팟 수
+    private final double latitude; //셀에 속한 팟들의 무게중심 위도
+    private final double longitude; //셀에 속한 팟들의 무게중심 경도
+    private final Long samplePotId; //셀에 속한 팟 중 하나의 ID (말풍선 미리보기 등에 사용)
+
+    public PotClusterDto(long count, double latitude, double longitude, Long samplePotId) {
+        this.count = count;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.samplePotId = samplePotId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.subdivision.subdivision_prj.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이징에서 "마지막으로 받은 행"의 위치를 나타내는 값 객체입니다.
+ * (정렬 키, 팟 ID)를 문자열로 이어 붙인 뒤 Base64(URL-safe)로 인코딩하여 클라이언트에게는 불투명한 토큰으로 전달합니다.
+ */
+@Getter
+public class PotCursor {
+
+    private final long sortKey;
+    private final long potId;
+
+    public PotCursor(long sortKey, long potId) {
+        this.sortKey = sortKey;
+        this.potId = potId;
+    }
+
+    public String encode() {
+        String raw = sortKey + ":" + potId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 토큰을 해석합니다.
+     * 가격순 커서의 정렬 키는 가격(int) 범위 안의 값이어야 합니다.
+     * @param sort 커서를 사용할 정렬 기준
+     * @throws IllegalArgumentException 형식이 올바르지 않거나 정렬 키가 범위를 벗어난 커서인 경우
+     */
+    public static PotCursor decode(String token, PotScrollSort sort) {
+        PotCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            cursor = new PotCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (sort == PotScrollSort.PRICE && (cursor.sortKey < Integer.MIN_VALUE || cursor.sortKey > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return cursor;
+    }
+}
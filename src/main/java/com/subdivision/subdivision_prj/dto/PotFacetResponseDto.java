@@ -0,0 +1,38 @@
+package com.subdivision.subdivision_prj.dto;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 위치 기반 검색 결과의 카테고리별, 상태별 개수(Facet) 응답 DTO입니다.
+ * 카테고리별 개수는 선택된 카테고리 조건을 제외하고(상태 조건만 적용), 상태별 개수는 선택된 상태 조건을 제외하고(카테고리 조건만 적용) 셉니다.
+ * 덕분에 카테고리 칩을 하나 선택한 상태에서도 다른 칩들의 개수를 그대로 보여줄 수 있습니다.
+ */
+@Getter
+public class PotFacetResponseDto {
+
+    private final long total; //모든 조건을 적용한 검색 결과 수 (검색 API의 totalElements와 같음)
+    private final Map<PotCategory, Long> categories;
+    private final Map<PotStatus, Long> statuses;
+
+    /**
+     * @param categoryCounts PotCategory의 ordinal 순서로 센 개수
+     * @param statusCounts PotStatus의 ordinal 순서로 센 개수
+     */
+    public PotFacetResponseDto(long total, long[] categoryCounts, long[] statusCounts) {
+        this.total = total;
+        // 개수가 0인 항목도 응답에 포함되도록 모든 enum 값을 채워 넣습니다.
+        this.categories = new EnumMap<>(PotCategory.class);
+        for (PotCategory category : PotCategory.values()) {
+            this.categories.put(category, categoryCounts[category.ordinal()]);
+        }
+        this.statuses = new EnumMap<>(PotStatus.class);
+        for (PotStatus status : PotStatus.values()) {
+            this.statuses.put(status, statusCounts[status.ordinal()]);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.subdivision.subdivision_prj.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 API의 fields 쿼리 파라미터로 요청한 응답 필드 집합입니다. (예: fields=title,price,imageUrl)
+ * 요청하지 않은 필드는 PotSummaryDto에 값을 채우지 않고(이미지 서명, 거리 계산 등도 하지 않습니다), 응답 JSON에서도 빠집니다.
+ * potId는 항상 포함됩니다.
+ */
+public final class PotFieldSet {
+
+    /**
+     * 목록 API에서 선택할 수 있는 필드입니다. 이름은 응답 JSON의 필드 이름과 같습니다.
+     */
+    public enum Field {
+        potId, title, productName, price, maximumHeadcount, currentHeadcount, authorNickname,
+        latitude, longitude, imageUrl, category, status, distanceKm, currentUserJoined
+    }
+
+    // fields 파라미터가 없을 때 사용하는, 모든 필드를 포함하는 집합
+    public static final PotFieldSet ALL = new PotFieldSet(EnumSet.allOf(Field.class));
+
+    private final EnumSet<Field> fields;
+
+    private PotFieldSet(EnumSet<Field> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * fields 파라미터 값을 필드 집합으로 변환합니다. 값이 없으면 모든 필드를 포함합니다.
+     * @throws IllegalArgumentException 알 수 없는 필드 이름이 포함된 경우
+     */
+    public static PotFieldSet parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        EnumSet<Field> fields = EnumSet.of(Field.potId);
+        for (String name : value.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                fields.add(Field.valueOf(trimmed));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("알 수 없는 필드입니다: " + trimmed
+                        + " (사용 가능한 필드: " + Arrays.stream(Field.values()).map(Enum::name).collect(Collectors.joining(",")) + ")");
+            }
+        }
+        return new PotFieldSet(fields);
+    }
+
+    public boolean contains(Field field) {
+        return fields.contains(field);
+    }
+}
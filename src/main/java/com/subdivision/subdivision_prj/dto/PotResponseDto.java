@@ -2,6 +2,7 @@ package com.subdivision.subdivision_prj.dto;
 
 import com.subdivision.subdivision_prj.domain.Pot;
 import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotDetailSnapshot;
 import lombok.Getter;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ public class PotResponseDto {
     private String detailAddress;
     private boolean currentUserJoined; //현재 사용자가 이 팟에 참여했는지 여부
     private PotCategory category;
+    private Double distanceKm; //검색 중심점으로부터의 거리(km), 위치 기반 검색에서만 채워집니다.
 
     // Pot 엔티티를 파라미터로 받아 DTO로 변환하는 생성자
     public PotResponseDto(Pot pot) {
@@ -47,6 +49,27 @@ public class PotResponseDto {
         this.category = pot.getCategory();
     }
 
+    // 캐시된 상세 스냅샷을 DTO로 변환하는 생성자 (이미지는 S3 경로이므로 서비스 레이어에서 Presigned URL로 바꿉니다)
+    public PotResponseDto(PotDetailSnapshot detail) {
+        this.potId = detail.potId();
+        this.title = detail.title();
+        this.content = detail.content();
+        this.productName = detail.productName();
+        this.price = detail.price();
+        this.maximumHeadcount = detail.maximumHeadcount();
+        this.currentHeadcount = detail.currentHeadcount();
+        this.authorNickname = detail.authorNickname();
+        this.latitude = detail.latitude();
+        this.longitude = detail.longitude();
+        this.imageUrl = detail.imageKey();
+        this.members = detail.members().stream()
+                .map(member -> new MemberInfo(member.nickname()))
+                .collect(Collectors.toList());
+        this.address = detail.address();
+        this.detailAddress = detail.detailAddress();
+        this.category = detail.category();
+    }
+
     //멤버 닉네임만 담는 간단한 내부 클래스
     @Getter
     private static class MemberInfo {
@@ -62,6 +85,11 @@ public class PotResponseDto {
         this.imageUrl = imageUrl;
     }
 
+    //위치 기반 검색 결과에 거리를 설정하기 위한 setter
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+
     //참여 여부를 설정하기 위한 setter
     public void setCurrentUserJoined(boolean currentUserJoined) {
         this.currentUserJoined = currentUserJoined;
@@ -0,0 +1,33 @@
+package com.subdivision.subdivision_prj.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 팟 상세 응답의 ETag(따옴표 제외)와 마지막 수정 시각(epoch 밀리초, 알 수 없으면 -1), 그리고 팟의 현재 버전입니다.
+ * 상세 응답에는 현재 사용자의 참여 여부가 들어가므로, ETag에 사용자 식별값을 함께 넣어 사용자마다 다른 값이 되도록 합니다.
+ */
+public record PotRevision(String etag, long lastModified, long version) {
+
+    // ETag에 넣는 사용자 식별값의 길이 (SHA-256의 앞 8바이트 = 64비트)
+    private static final int VIEWER_DIGEST_BYTES = 8;
+
+    /**
+     * ETag에 넣을 사용자 식별값을 만듭니다.
+     * 이메일을 그대로 노출하지 않으면서도 다른 사용자와 겹치지 않도록, String.hashCode(32비트) 대신 SHA-256을 64비트로 잘라 사용합니다.
+     * @param username 로그인한 사용자의 이메일 (비로그인이면 null)
+     */
+    public static String viewerTag(String username) {
+        if (username == null) {
+            return "anonymous";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(username.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, VIEWER_DIGEST_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.subdivision.subdivision_prj.dto;
+
+/**
+ * 커서 페이징에서 사용할 수 있는 정렬 기준입니다.
+ */
+public enum PotScrollSort {
+    LATEST,     //최신순 (팟 ID 내림차순)
+    PRICE       //가격 낮은순 (가격, 팟 ID 오름차순)
+}
@@ -0,0 +1,91 @@
+package com.subdivision.subdivision_prj.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.PotSummary;
+import com.subdivision.subdivision_prj.dto.PotFieldSet.Field;
+import lombok.Getter;
+
+/**
+ * 팟 목록/검색/지도 화면의 카드 하나에 해당하는 응답 DTO입니다.
+ * 상세 화면에서만 쓰는 내용, 참여자 목록, 주소는 포함하지 않으며(상세 조회 API의 PotResponseDto에서 제공),
+ * fields 파라미터로 요청한 필드만 채워지고 값이 없는(null) 필드는 응답 JSON에서 빠집니다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PotSummaryDto {
+
+    private final Long potId;
+    private String title;
+    private String productName;
+    private Integer price;
+    private Integer maximumHeadcount;
+    private Integer currentHeadcount;
+    private String authorNickname;
+    private Double latitude;
+    private Double longitude;
+    private String imageUrl;
+    private PotCategory category;
+    private PotStatus status;
+    private Double distanceKm; //검색 중심점으로부터의 거리(km), 위치 기반 검색에서만 채워집니다.
+    private Boolean currentUserJoined; //현재 사용자가 이 팟에 참여했는지 여부, 로그인한 사용자에게만 채워집니다.
+
+    private PotSummaryDto(Long potId) {
+        this.potId = potId;
+    }
+
+    /**
+     * 조회 모델(PotSummary)에서 요청한 필드만 복사하여 DTO를 만듭니다.
+     * 이미지 URL(Presigned URL)과 거리는 서비스 레이어에서 필요한 경우에만 계산하여 설정합니다.
+     */
+    public static PotSummaryDto of(PotSummary summary, PotFieldSet fields) {
+        PotSummaryDto dto = new PotSummaryDto(summary.getId());
+        if (fields.contains(Field.title)) {
+            dto.title = summary.getTitle();
+        }
+        if (fields.contains(Field.productName)) {
+            dto.productName = summary.getProductName();
+        }
+        if (fields.contains(Field.price)) {
+            dto.price = summary.getPrice();
+        }
+        if (fields.contains(Field.maximumHeadcount)) {
+            dto.maximumHeadcount = summary.getMaximumHeadcount();
+        }
+        if (fields.contains(Field.currentHeadcount)) {
+            dto.currentHeadcount = summary.getCurrentHeadcount();
+        }
+        if (fields.contains(Field.authorNickname)) {
+            dto.authorNickname = summary.getAuthorNickname();
+        }
+        if (fields.contains(Field.latitude)) {
+            dto.latitude = summary.getLatitude();
+        }
+        if (fields.contains(Field.longitude)) {
+            dto.longitude = summary.getLongitude();
+        }
+        if (fields.contains(Field.category)) {
+            dto.category = summary.getCategory();
+        }
+        if (fields.contains(Field.status)) {
+            dto.status = summary.getStatus();
+        }
+        return dto;
+    }
+
+    //서비스 레이어에서 사전 서명된 URL을 설정하기 위한 Setter
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    //위치 기반 검색 결과에 거리를 설정하기 위한 setter
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+
+    //참여 여부를 설정하기 위한 setter
+    public void setCurrentUserJoined(Boolean currentUserJoined) {
+        this.currentUserJoined = currentUserJoined;
+    }
+}
@@ -2,6 +2,7 @@ package com.subdivision.subdivision_prj.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -19,4 +20,13 @@ public class GlobalExceptionHandler {
         // 예외 메시지를 JSON 형식으로 만들어서 400 Bad Request 상태와 함께 반환
         return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
     }
+
+    /**
+     * 낙관적 잠금(@Version) 충돌을 처리하는 핸들러
+     * 같은 팟을 동시에 수정하여 먼저 반영된 변경과 충돌한 경우, 409 Conflict를 반환하여 다시 시도하도록 합니다.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", "다른 요청이 먼저 팟을 변경했습니다. 다시 시도해주세요."));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subdivision.subdivision_prj.domain.PotMemberRepository;
+import com.subdivision.subdivision_prj.domain.event.PotMemberChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자별로 참여한 팟 ID를 정렬된 long[]로 보관하는 캐시입니다.
+ * 목록/검색 화면의 각 팟에 참여 여부(currentUserJoined)를 표시할 때, SQL 없이 이진 탐색만으로 확인할 수 있습니다.
+ * L1은 서버마다 있는 메모리 캐시(Caffeine), L2는 모든 서버가 공유하는 Redis Set(users:joined-pots:{이메일})입니다.
+ * 참여/참여취소가 커밋되면 Redis Set에 SADD/SREM으로 바로 반영하고, Pub/Sub으로 다른 서버의 L1 항목을 제거합니다.
+ * DB에서 채우는 도중 참여 정보가 바뀌면 이전 목록이 Redis에 남지 않도록, 사용자별 세대 번호(users:joined-pots:gen:{이메일})를
+ * 변경할 때마다 올리고 채우기를 시작할 때의 세대 번호와 같을 때만 저장합니다. (확인과 저장은 Lua 스크립트 하나로 수행)
+ * @author subdivision
+ */
+@Slf4j
+@Component
+public class JoinedPotsCache {
+
+    static final String KEY_PREFIX = "users:joined-pots:";
+    static final String INVALIDATE_CHANNEL = "users:joined-pots:invalidate";
+    // 사용자별 세대 번호의 키 접두사. 참여 정보가 바뀔 때마다 1씩 올립니다.
+    static final String GENERATION_KEY_PREFIX = "users:joined-pots:gen:";
+    // Redis Set이 DB에서 완전히 채워졌음을 나타내는 표시 (팟 ID는 1부터 시작하므로 겹치지 않습니다)
+    // 참여한 팟이 없는 사용자도 빈 집합 대신 이 값만 담아 캐시하며, 이 값이 없는 집합은 불완전한 것으로 보고 다시 채웁니다.
+    static final String COMPLETE_MARKER = "0";
+    // 채우기 스크립트가 SADD 한 번에 넘기는 최대 인자 수
+    static final int FILL_CHUNK_SIZE = 1000;
+
+    private static final long[] EMPTY = new long[0];
+
+    // 세대 번호가 채우기를 시작할 때와 같고 다른 서버가 아직 채우지 않았을 때만, 집합을 지우고 다시 채운 뒤 만료 시간을 설정합니다.
+    // [핵심] unpack은 Lua 스택 크기(약 8000개)를 넘는 인자를 펼치지 못하므로, SADD는 FILL_CHUNK_SIZE개씩 나누어 호출합니다.
+    // ARGV: [시작할 때의 세대 번호, 만료 시간(초), 완료 표시, 팟 ID...]
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[3]) == 1 then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, " + FILL_CHUNK_SIZE + " do " +
+            "redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + " + (FILL_CHUNK_SIZE - 1) + ", #ARGV))) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+    // 세대 번호를 올리고, 완전히 채워진 집합이 있을 때만 팟 ID를 추가(1)하거나 제거(0)합니다.
+    // ARGV: [완료 표시, 추가 여부, 팟 ID, 세대 번호의 만료 시간(초)]
+    private static final RedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+            "if ARGV[2] == '1' then redis.call('SADD', KEYS[1], ARGV[3]) else redis.call('SREM', KEYS[1], ARGV[3]) end " +
+            "return 1",
+            Long.class);
+
+    // 무효화 메시지를 보낸 서버를 구분하는 ID. 자기 자신이 보낸 메시지로 방금 갱신한 L1 항목을 지우지 않습니다.
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<String, long[]> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final PotMemberRepository potMemberRepository;
+    private final Duration redisTtl;
+
+    public JoinedPotsCache(MeterRegistry meterRegistry,
+                           StringRedisTemplate redisTemplate,
+                           PotMemberRepository potMemberRepository,
+                           RedisMessageListenerContainer listenerContainer,
+                           @Value("${pot.joined-cache.max-users:100000}") long maxUsers,
+                           @Value("${pot.joined-cache.ttl:30m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.potMemberRepository = potMemberRepository;
+        this.redisTtl = ttl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "joinedPots");
+
+        // 다른 서버에서 참여 정보가 바뀐 사용자의 이메일을 받아 이 서버의 L1 항목을 제거합니다.
+        listenerContainer.addMessageListener(this::onInvalidateMessage, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 사용자가 참여한 팟 ID를 오름차순으로 정렬된 배열로 반환합니다. (L1 → L2 → DB 순서로 찾습니다)
+     * 반환된 배열은 캐시와 공유되므로 수정하면 안 됩니다.
+     * @param email 사용자 이메일 (UserDetails의 username)
+     */
+    public long[] get(String email) {
+        return localCache.get(email, this::load);
+    }
+
+    /**
+     * 사용자가 해당 팟에 참여했는지 확인합니다.
+     * @param joinedPotIds get()이 반환한 정렬된 배열
+     */
+    public static boolean contains(long[] joinedPotIds, Long potId) {
+        return Arrays.binarySearch(joinedPotIds, potId) >= 0;
+    }
+
+    /**
+     * 참여/참여취소 트랜잭션이 커밋된 이후 캐시에 반영합니다.
+     * - L1: 이 서버에 있는 항목은 새 배열로 교체합니다.
+     * - L2: 세대 번호를 올리고, 완전히 채워진 Redis Set이 있을 때만 SADD/SREM 합니다. (없으면 다음 조회 때 DB에서 채웁니다)
+     * - 다른 서버에는 이 서버의 ID를 담은 무효화 메시지를 보내 L1 항목을 제거하게 합니다. (다음 조회 때 Redis에서 다시 읽습니다)
+     */
+    @TransactionalEventListener
+    public void onPotMemberChanged(PotMemberChangedEvent event) {
+        String email = event.getUserEmail();
+        long potId = event.getPotId();
+        localCache.asMap().computeIfPresent(email, (key, ids) -> event.isJoined() ? insert(ids, potId) : remove(ids, potId));
+        try {
+            redisTemplate.execute(CHANGE_SCRIPT, List.of(KEY_PREFIX + email, GENERATION_KEY_PREFIX + email),
+                    COMPLETE_MARKER, event.isJoined() ? "1" : "0", Long.toString(potId),
+                    Long.toString(redisTtl.toSeconds()));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId + " " + email);
+        } catch (DataAccessException e) {
+            // Redis Set을 고치지 못했다면, 이전 상태가 남지 않도록 지워서 다음 조회 때 DB에서 다시 채우게 합니다.
+            log.warn("참여한 팟 캐시를 Redis에 반영하지 못했습니다. email={}, potId={}", email, potId, e);
+            deleteQuietly(KEY_PREFIX + email);
+        }
+    }
+
+    // 메시지는 "{보낸 서버 ID} {이메일}" 형식입니다. (서버 ID는 UUID이므로 공백이 없습니다)
+    void onInvalidateMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(' ');
+        if (separator < 0 || nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        localCache.invalidate(body.substring(separator + 1));
+    }
+
+    private long[] load(String email) {
+        String key = KEY_PREFIX + email;
+        String generationKey = GENERATION_KEY_PREFIX + email;
+        String generation;
+        // 1. 다른 서버가 Redis에 채워 둔 집합이 있으면 사용합니다. 없다면 DB를 조회하기 전에 현재 세대 번호를 기억합니다.
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            if (members != null && members.contains(COMPLETE_MARKER)) {
+                return toSortedArray(members.stream()
+                        .filter(member -> !COMPLETE_MARKER.equals(member))
+                        .map(Long::valueOf)
+                        .toList());
+            }
+            generation = Objects.requireNonNullElse(redisTemplate.opsForValue().get(generationKey), "0");
+        } catch (DataAccessException e) {
+            log.warn("Redis에서 참여한 팟 캐시를 읽지 못했습니다. DB에서 조회합니다. email={}", email, e);
+            return toSortedArray(potMemberRepository.findPotIdsByUserEmail(email));
+        }
+
+        // 2. 없으면 DB에서 조회하여 Redis Set을 새로 채웁니다.
+        //    [핵심] 조회하는 동안 참여 정보가 바뀌었다면(세대 번호가 다르다면) 이전 목록이므로 Redis에 저장하지 않습니다.
+        List<Long> potIds = potMemberRepository.findPotIdsByUserEmail(email);
+        try {
+            Object[] arguments = new Object[potIds.size() + 3];
+            arguments[0] = generation;
+            arguments[1] = Long.toString(redisTtl.toSeconds());
+            arguments[2] = COMPLETE_MARKER;
+            for (int i = 0; i < potIds.size(); i++) {
+                arguments[i + 3] = potIds.get(i).toString();
+            }
+            redisTemplate.execute(FILL_SCRIPT, List.of(key, generationKey), arguments);
+        } catch (DataAccessException e) {
+            log.warn("Redis에 참여한 팟 캐시를 저장하지 못했습니다. email={}", email, e);
+        }
+        return toSortedArray(potIds);
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.debug("Redis 키를 삭제하지 못했습니다. key={}", key, e);
+        }
+    }
+
+    private static long[] toSortedArray(List<Long> potIds) {
+        if (potIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] ids = potIds.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    // 정렬을 유지한 채 ID를 추가한 새 배열을 반환합니다. (조회 중인 다른 스레드가 보고 있는 배열은 바꾸지 않습니다)
+    private static long[] insert(long[] ids, long potId) {
+        int index = Arrays.binarySearch(ids, potId);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insertAt);
+        result[insertAt] = potId;
+        System.arraycopy(ids, insertAt, result, insertAt + 1, ids.length - insertAt);
+        return result;
+    }
+
+    private static long[] remove(long[] ids, long potId) {
+        int index = Arrays.binarySearch(ids, potId);
+        if (index < 0) {
+            return ids;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, index);
+        System.arraycopy(ids, index + 1, result, index, ids.length - index - 1);
+        return result;
+    }
+}
@@ -1,14 +1,15 @@
 package com.subdivision.subdivision_prj.service;
 
 import com.subdivision.subdivision_prj.domain.*;
-import com.subdivision.subdivision_prj.dto.PotResponseDto;
+import com.subdivision.subdivision_prj.dto.PotFieldSet;
+import com.subdivision.subdivision_prj.dto.PotSummaryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,45 +18,43 @@ public class MypageService {
 
     private final UserRepository userRepository;
     private final PotRepository potRepository;
-    private final PotMemberRepository potMemberRepository;
+    private final PotSummaryRepository potSummaryRepository;
     private final PotService potService;
 
     /**
      * 현재 로그인 한 사용자가 작성한 모든 팟 목록을 조회합니다.
      * @param userDetails 현재 인증된 사용자의 정보
+     * @param fields 응답에 포함할 필드
      * @return 해당 사용자가 작성한 팟의 DTO 목록
      */
-    public List<PotResponseDto> getMyPots(UserDetails userDetails) {
+    public List<PotSummaryDto> getMyPots(UserDetails userDetails, PotFieldSet fields) {
         //UserDetails에서 이메일을 가져와 현재 User 엔티티를 조회합니다.
         User currentUser = userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        //PotRepository를 사용하여 해당 User가 작성한 모든 Pot을 조회합니다.
-        List<Pot> myPots = potRepository.findAllByUser(currentUser);
+        //조회 모델(pot_summary)에서 해당 User가 작성한 모든 팟을 조회합니다.
+        List<PotSummary> myPots = potSummaryRepository.findAllByAuthorIdOrderByIdDesc(currentUser.getId());
 
-        //조회된 Pot 엔티티 리스트를 PotResponseDto 리스트로 변환하여 반환합니다.
-        return myPots.stream()
-                .map(potService::createPotResponseDtoWithPresignedUrl)
-                .collect(Collectors.toList());
+        //조회된 요약 정보 리스트를 PotSummaryDto 리스트로 변환하여 반환합니다.
+        return potService.createPotSummaryDtos(myPots, fields);
     }
 
     /**
      * 현재 로그인 한 사용자가 참여한 모든 팟 목록을 조회합니다.
      * @param userDetails 현재 인증된 사용자의 정보
+     * @param fields 응답에 포함할 필드
      * @return 해당 사용자가 참여한 팟의 DTO 목록
      */
-    public List<PotResponseDto> getJoinedPots(UserDetails userDetails) {
+    public List<PotSummaryDto> getJoinedPots(UserDetails userDetails, PotFieldSet fields) {
         //현재 User 엔티티를 조회합니다.
         User currentUser = userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        //PotMemberRepository를 사용하여 해당 User의 모든 참여 기록(PotMember)을 조회합니다.
-        List<PotMember> joinedMemberships = potMemberRepository.findAllByUser(currentUser);
+        //조회 모델(pot_summary)에서 해당 User가 참여한 모든 팟을 조회합니다.
+        List<PotSummary> joinedPots = potSummaryRepository.findAllJoinedBy(currentUser);
 
-        //각 참여 기록(PotMember)에서 Pot 정보만 추출하여 DTO 리스트로 변환 후 반환합니다.
-        return joinedMemberships.stream()
-                .map(potMember -> potService.createPotResponseDtoWithPresignedUrl(potMember.getPot()))
-                .collect(Collectors.toList());
+        //조회된 요약 정보 리스트를 PotSummaryDto 리스트로 변환하여 반환합니다.
+        return potService.createPotSummaryDtos(joinedPots, fields);
     }
 
     /**
@@ -75,5 +74,11 @@ public class MypageService {
         // 3. 사용자 닉네임을 업데이트합니다.
         currentUser.updateNickname(newNickname);
         userRepository.save(currentUser); // @Transactional에 의해 자동 저장되지만, 명시적으로 호출
+
+        // 4. 목록 조회 모델에 복사해 둔 작성자 닉네임도 같은 트랜잭션에서 갱신합니다.
+        potSummaryRepository.updateAuthorNickname(currentUser.getId(), newNickname);
+
+        // 5. 닉네임이 표시되는 팟(작성/참여)의 버전을 올려, 상세 조회 API의 ETag가 바뀌도록 합니다.
+        potRepository.touchPotsOfUser(currentUser.getId(), LocalDateTime.now());
     }
 }
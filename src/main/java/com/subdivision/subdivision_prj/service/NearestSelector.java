@@ -0,0 +1,89 @@
+package com.subdivision.subdivision_prj.service;
+
+/**
+ * 거리 배열에서 가장 가까운 k개의 위치만 골라내는 유틸리티입니다.
+ * 후보 전체를 정렬(O(n log n))하지 않고, 크기가 k인 최대 힙(Max Heap)만 유지하여 O(n log k)로 선택합니다.
+ * 힙은 객체 대신 int 배열로 구성하여, 후보가 많아도 박싱(Boxing)과 추가 객체 생성이 없습니다.
+ * @author subdivision
+ */
+final class NearestSelector {
+
+    private NearestSelector() {
+    }
+
+    /**
+     * 거리가 가까운 순서대로 최대 k개의 배열 위치(index)를 반환합니다.
+     * 거리가 같다면 ID가 작은 쪽을 먼저 반환하여, 같은 검색을 반복해도 페이지 경계가 흔들리지 않도록 합니다.
+     * @param distances 후보별 거리
+     * @param ids 후보별 ID (distances와 같은 순서)
+     * @param k 선택할 개수
+     */
+    static int[] selectNearest(double[] distances, long[] ids, int k) {
+        int limit = Math.min(k, distances.length);
+        if (limit <= 0) {
+            return new int[0];
+        }
+
+        // 1. 루트에 "지금까지 고른 것 중 가장 먼" 후보가 오는 최대 힙을 유지합니다.
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int i = 0; i < distances.length; i++) {
+            if (heapSize < limit) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, distances, ids);
+            } else if (isCloser(i, heap[0], distances, ids)) {
+                // [핵심] 루트보다 가까운 후보만 힙에 들어갈 수 있으므로, 대부분의 후보는 비교 한 번으로 버려집니다.
+                heap[0] = i;
+                siftDown(heap, heapSize, distances, ids);
+            }
+        }
+
+        // 2. 힙에서 가장 먼 후보부터 꺼내 뒤에서부터 채우면 가까운 순으로 정렬됩니다.
+        int[] result = new int[heapSize];
+        for (int last = heapSize - 1; last >= 0; last--) {
+            result[last] = heap[0];
+            heap[0] = heap[last];
+            siftDown(heap, last, distances, ids);
+        }
+        return result;
+    }
+
+    private static void siftUp(int[] heap, int position, double[] distances, long[] ids) {
+        int item = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isCloser(heap[parent], item, distances, ids)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = item;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] distances, long[] ids) {
+        int position = 0;
+        int item = heap[0];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isCloser(heap[child], heap[child + 1], distances, ids)) {
+                child++;
+            }
+            if (!isCloser(item, heap[child], distances, ids)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = item;
+    }
+
+    // a가 b보다 앞 순서(더 가깝거나, 거리가 같다면 ID가 더 작음)인지 판단합니다.
+    private static boolean isCloser(int a, int b, double[] distances, long[] ids) {
+        int compare = Double.compare(distances[a], distances[b]);
+        return compare < 0 || (compare == 0 && ids[a] < ids[b]);
+    }
+}
@@ -0,0 +1,261 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import com.subdivision.subdivision_prj.dto.PotClusterDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 축소된 지도에 그릴 팟 클러스터(격자 셀별 개수, 무게중심, 대표 팟)를 줌 레벨마다 미리 집계해 두는 인덱스입니다.
+ * 격자는 웹 지도와 같은 메르카토르 타일 좌표를 사용하며, 타일(256px) 한 장을 4 x 4개의 셀(64px)로 나눕니다.
+ * 줌 레벨이 하나 커지면 셀 하나가 정확히 2 x 2개의 셀로 나뉘므로, 팟 하나의 추가/삭제는 줌 레벨마다 셀 하나씩만 갱신합니다.
+ * 응답은 타일 단위로 캐시하고, 팟이 바뀌면 그 팟이 속한 타일만 무효화합니다.
+ * @author subdivision
+ */
+@Slf4j
+@Component
+public class PotClusterIndex {
+
+    public static final int MAX_ZOOM = 16;
+    // 타일 한 변을 나누는 셀 수 (256px 타일 / 64px 셀)
+    static final int CELLS_PER_TILE = 4;
+    // 한 번의 요청으로 조회할 수 있는 최대 타일 수 (bbox와 zoom이 맞지 않는 요청으로 전 세계를 훑지 않도록 제한)
+    static final int MAX_TILES_PER_REQUEST = 256;
+    // 메르카토르 투영에서 표현할 수 있는 최대 위도
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private final PotRepository potRepository;
+
+    // 줌 레벨 -> (셀 키 -> 셀 집계)
+    private final List<Map<Long, ClusterCell>> levels = new ArrayList<>();
+    // 가장 큰 줌 레벨의 셀 키 -> 셀에 속한 팟 ID (대표 팟이 삭제되었을 때 다른 팟을 고르기 위해 보관)
+    private final Map<Long, Set<Long>> finestMembers = new ConcurrentHashMap<>();
+    // 팟 ID -> 집계에 반영된 스냅샷 (수정/삭제 시 이전 위치를 빼기 위해 보관)
+    private final Map<Long, PotSnapshot> entries = new ConcurrentHashMap<>();
+    // 타일 키 -> 타일 안의 클러스터 목록
+    private final Cache<Long, List<PotClusterDto>> tileCache;
+    private final Object writeLock = new Object();
+
+    public PotClusterIndex(PotRepository potRepository, MeterRegistry meterRegistry) {
+        this.potRepository = potRepository;
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new ConcurrentHashMap<>());
+        }
+        this.tileCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tileCache, "potClusterTile");
+    }
+
+    /**
+     * DB에 저장된 모든 팟으로 집계를 (재)구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            List<PotSnapshot> snapshots = potRepository.findAllSnapshots();
+            levels.forEach(Map::clear);
+            finestMembers.clear();
+            entries.clear();
+            snapshots.forEach(this::addInternal);
+            tileCache.invalidateAll();
+            log.info("팟 클러스터 인덱스 구축 완료: {}건", entries.size());
+        }
+    }
+
+    /**
+     * 팟 변경 트랜잭션이 커밋된 이후에 이전 위치의 집계에서 빼고, 현재 위치의 집계에 더합니다.
+     */
+    @Order(0)
+    @TransactionalEventListener
+    public void onPotChanged(PotChangedEvent event) {
+        synchronized (writeLock) {
+            PotSnapshot old = entries.get(event.getPotId());
+            if (old != null) {
+                removeInternal(old);
+            }
+            if (event.getCurrent() != null) {
+                addInternal(event.getCurrent());
+            }
+        }
+    }
+
+    /**
+     * 사각형 영역과 겹치는 타일들의 클러스터를 반환합니다.
+     * @param minLon 서쪽 경도
+     * @param minLat 남쪽 위도
+     * @param maxLon 동쪽 경도
+     * @param maxLat 북쪽 위도
+     * @param zoom 지도 줌 레벨 (MAX_ZOOM보다 크면 MAX_ZOOM으로 집계합니다)
+     */
+    public List<PotClusterDto> findClusters(double minLon, double minLat, double maxLon, double maxLat, int zoom) {
+        if (minLon > maxLon || minLat > maxLat) {
+            throw new IllegalArgumentException("bbox는 서쪽 경도, 남쪽 위도, 동쪽 경도, 북쪽 위도 순서여야 합니다.");
+        }
+        if (zoom < 0) {
+            throw new IllegalArgumentException("줌 레벨은 0 이상이어야 합니다.");
+        }
+        int level = Math.min(zoom, MAX_ZOOM);
+
+        // 1. 사각형의 모서리가 속한 타일 범위를 구합니다. (메르카토르 y는 북쪽이 작습니다)
+        int minTileX = cellIndex(mercatorX(minLon), level) / CELLS_PER_TILE;
+        int maxTileX = cellIndex(mercatorX(maxLon), level) / CELLS_PER_TILE;
+        int minTileY = cellIndex(mercatorY(maxLat), level) / CELLS_PER_TILE;
+        int maxTileY = cellIndex(mercatorY(minLat), level) / CELLS_PER_TILE;
+        if ((long) (maxTileX - minTileX + 1) * (maxTileY - minTileY + 1) > MAX_TILES_PER_REQUEST) {
+            throw new IllegalArgumentException("요청 영역이 너무 넓습니다. 줌 레벨을 낮추거나 영역을 줄여주세요.");
+        }
+
+        // 2. 타일별로 캐시된 클러스터를 모읍니다.
+        List<PotClusterDto> clusters = new ArrayList<>();
+        for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+            for (int tileY = minTileY; tileY <= maxTileY; tileY++) {
+                int x = tileX;
+                int y = tileY;
+                clusters.addAll(tileCache.get(tileKey(level, x, y), key -> loadTile(level, x, y)));
+            }
+        }
+        return clusters;
+    }
+
+    /**
+     * 타일 하나에 속한 셀(4 x 4)의 집계를 클러스터 목록으로 변환합니다.
+     */
+    private List<PotClusterDto> loadTile(int level, int tileX, int tileY) {
+        Map<Long, ClusterCell> cells = levels.get(level);
+        List<PotClusterDto> clusters = new ArrayList<>();
+        for (int x = tileX * CELLS_PER_TILE; x < (tileX + 1) * CELLS_PER_TILE; x++) {
+            for (int y = tileY * CELLS_PER_TILE; y < (tileY + 1) * CELLS_PER_TILE; y++) {
+                ClusterCell cell = cells.get(cellKey(x, y));
+                if (cell != null) {
+                    clusters.add(new PotClusterDto(cell.count(), cell.sumLatitude() / cell.count(),
+                            cell.sumLongitude() / cell.count(), cell.sampleId()));
+                }
+            }
+        }
+        return clusters;
+    }
+
+    private void addInternal(PotSnapshot snapshot) {
+        entries.put(snapshot.getId(), snapshot);
+        double x = mercatorX(snapshot.getLongitude());
+        double y = mercatorY(snapshot.getLatitude());
+        for (int level = 0; level <= MAX_ZOOM; level++) {
+            int cellX = cellIndex(x, level);
+            int cellY = cellIndex(y, level);
+            levels.get(level).merge(cellKey(cellX, cellY),
+                    new ClusterCell(1, snapshot.getLatitude(), snapshot.getLongitude(), snapshot.getId()),
+                    ClusterCell::plus);
+            tileCache.invalidate(tileKey(level, cellX / CELLS_PER_TILE, cellY / CELLS_PER_TILE));
+        }
+        finestMembers.computeIfAbsent(cellKey(cellIndex(x, MAX_ZOOM), cellIndex(y, MAX_ZOOM)),
+                key -> ConcurrentHashMap.newKeySet()).add(snapshot.getId());
+    }
+
+    private void removeInternal(PotSnapshot snapshot) {
+        entries.remove(snapshot.getId());
+        double x = mercatorX(snapshot.getLongitude());
+        double y = mercatorY(snapshot.getLatitude());
+        Long potId = snapshot.getId();
+
+        long finestKey = cellKey(cellIndex(x, MAX_ZOOM), cellIndex(y, MAX_ZOOM));
+        Set<Long> members = finestMembers.get(finestKey);
+        if (members != null) {
+            members.remove(potId);
+            if (members.isEmpty()) {
+                finestMembers.remove(finestKey);
+            }
+        }
+
+        // [핵심] 가장 큰 줌 레벨부터 거꾸로 갱신하므로, 대표 팟이 빠진 셀은 이미 갱신된 하위 셀(2 x 2)에서 새 대표를 고를 수 있습니다.
+        for (int level = MAX_ZOOM; level >= 0; level--) {
+            int cellX = cellIndex(x, level);
+            int cellY = cellIndex(y, level);
+            long key = cellKey(cellX, cellY);
+            ClusterCell cell = levels.get(level).get(key);
+            if (cell != null) {
+                if (cell.count() <= 1) {
+                    levels.get(level).remove(key);
+                } else {
+                    long sampleId = cell.sampleId() == potId ? pickSample(level, cellX, cellY) : cell.sampleId();
+                    levels.get(level).put(key, new ClusterCell(cell.count() - 1,
+                            cell.sumLatitude() - snapshot.getLatitude(), cell.sumLongitude() - snapshot.getLongitude(),
+                            sampleId));
+                }
+            }
+            tileCache.invalidate(tileKey(level, cellX / CELLS_PER_TILE, cellY / CELLS_PER_TILE));
+        }
+    }
+
+    /**
+     * 대표 팟이 삭제된 셀의 새 대표 팟을 고릅니다.
+     */
+    private long pickSample(int level, int cellX, int cellY) {
+        if (level == MAX_ZOOM) {
+            return finestMembers.get(cellKey(cellX, cellY)).iterator().next();
+        }
+        Map<Long, ClusterCell> children = levels.get(level + 1);
+        for (int dx = 0; dx < 2; dx++) {
+            for (int dy = 0; dy < 2; dy++) {
+                ClusterCell child = children.get(cellKey(cellX * 2 + dx, cellY * 2 + dy));
+                if (child != null) {
+                    return child.sampleId();
+                }
+            }
+        }
+        throw new IllegalStateException("클러스터 인덱스의 하위 셀이 비어 있습니다.");
+    }
+
+    // 경도를 메르카토르 x 좌표(0 ~ 1)로 변환합니다.
+    static double mercatorX(double lon) {
+        return (lon + 180) / 360;
+    }
+
+    // 위도를 메르카토르 y 좌표(0 ~ 1, 북쪽이 0)로 변환합니다.
+    static double mercatorY(double lat) {
+        double sinLat = Math.sin(Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat))));
+        return 0.5 - Math.log((1 + sinLat) / (1 - sinLat)) / (4 * Math.PI);
+    }
+
+    static int cellIndex(double mercator, int level) {
+        int cellsPerAxis = CELLS_PER_TILE << level;
+        return Math.max(0, Math.min(cellsPerAxis - 1, (int) Math.floor(mercator * cellsPerAxis)));
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    // 줌 레벨(5비트)과 타일 좌표(각 29비트)를 하나의 키로 합칩니다.
+    private static long tileKey(int level, int tileX, int tileY) {
+        return ((long) level << 58) | ((long) tileX << 29) | tileY;
+    }
+
+    /**
+     * 셀 하나의 집계 (불변 객체로 교체하므로, 읽는 쪽은 잠금 없이도 일관된 값을 봅니다)
+     */
+    private record ClusterCell(long count, double sumLatitude, double sumLongitude, long sampleId) {
+
+        ClusterCell plus(ClusterCell other) {
+            return new ClusterCell(count + other.count, sumLatitude + other.sumLatitude,
+                    sumLongitude + other.sumLongitude, sampleId);
+        }
+    }
+}
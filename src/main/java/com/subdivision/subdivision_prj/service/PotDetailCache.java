@@ -0,0 +1,235 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subdivision.subdivision_prj.domain.PotDetailSnapshot;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 팟 상세 조회(/api/pots/{potId})의 사용자 공통 부분(PotDetailSnapshot)을 보관하는 2단계 캐시입니다.
+ * L1은 서버마다 있는 메모리 캐시(Caffeine), L2는 모든 서버가 공유하는 Redis이며, 둘 다 없을 때만 DB에서 조회합니다.
+ * 항목은 팟 ID로 저장하되 조회할 때 팟의 현재 버전과 비교하므로, 무효화 메시지를 놓치더라도 이전 버전이 응답되지 않습니다.
+ * 팟이 변경되면 커밋 이후 Redis 항목을 지우고 Pub/Sub 채널(pots:detail:invalidate)로 팟 ID를 알려, 다른 서버도 L1 항목을 바로 제거합니다.
+ * @author subdivision
+ */
+@Slf4j
+@Component
+public class PotDetailCache {
+
+    static final String KEY_PREFIX = "pots:detail:";
+    static final String INVALIDATE_CHANNEL = "pots:detail:invalidate";
+
+    private final Cache<Long, PotDetailSnapshot> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public PotDetailCache(MeterRegistry meterRegistry,
+                          StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${pot.detail.cache.max-size:10000}") long maxSize,
+                          @Value("${pot.detail.cache.ttl:10m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = ttl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "potDetail");
+        this.redisHits = Counter.builder("pot.detail.cache.redis")
+                .description("팟 상세 캐시의 Redis(L2) 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("pot.detail.cache.redis")
+                .description("팟 상세 캐시의 Redis(L2) 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        // 다른 서버에서 변경된 팟의 ID를 받아 이 서버의 L1 항목을 제거합니다.
+        listenerContainer.addMessageListener(this::onInvalidateMessage, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 해당 버전의 팟 상세 스냅샷을 L1 → L2 → DB(loader) 순서로 찾아 반환합니다.
+     * @param potId 팟 ID
+     * @param version 상세 조회 직전에 확인한 팟의 현재 버전
+     * @param loader 작성자와 참여자를 포함한 팟을 DB에서 조회하여 스냅샷을 만드는 함수
+     */
+    public PotDetailSnapshot get(Long potId, long version, Function<Long, PotDetailSnapshot> loader) {
+        // 1. 이 서버의 메모리(L1)에 같은 버전이 있으면 그대로 사용합니다.
+        PotDetailSnapshot local = localCache.getIfPresent(potId);
+        if (local != null && local.version() == version) {
+            return local;
+        }
+
+        // 2. 다른 서버가 Redis(L2)에 저장해 둔 같은 버전이 있으면 L1에도 저장하고 사용합니다.
+        PotDetailSnapshot shared = readShared(potId);
+        if (shared != null && shared.version() == version) {
+            redisHits.increment();
+            putLocal(shared);
+            return shared;
+        }
+        redisMisses.increment();
+
+        // 3. 어디에도 없거나 버전이 다르면 DB에서 조회하여 L1과 L2에 저장합니다.
+        PotDetailSnapshot loaded = loader.apply(potId);
+        putLocal(loaded);
+        writeShared(loaded);
+        return loaded;
+    }
+
+    /**
+     * 여러 팟의 상세 스냅샷을 한 번에 찾아 반환합니다. (팟 ID → 스냅샷)
+     * L1에 없는 팟은 Redis에서 MGET 한 번으로, Redis에도 없는 팟은 loader 한 번(IN 쿼리)으로 조회합니다.
+     * loader가 반환하지 않은 팟(그 사이 삭제된 팟)은 결과에 포함되지 않습니다.
+     * @param versions 팟 ID → 현재 버전
+     * @param loader 팟 ID 목록으로 작성자와 참여자를 포함한 팟들을 DB에서 조회하여 스냅샷을 만드는 함수
+     */
+    public Map<Long, PotDetailSnapshot> getAll(Map<Long, Long> versions,
+                                               Function<Collection<Long>, List<PotDetailSnapshot>> loader) {
+        Map<Long, PotDetailSnapshot> result = new HashMap<>();
+
+        // 1. 이 서버의 메모리(L1)에서 같은 버전을 찾습니다.
+        List<Long> localMisses = new ArrayList<>();
+        versions.forEach((potId, version) -> {
+            PotDetailSnapshot local = localCache.getIfPresent(potId);
+            if (local != null && local.version() == version) {
+                result.put(potId, local);
+            } else {
+                localMisses.add(potId);
+            }
+        });
+        if (localMisses.isEmpty()) {
+            return result;
+        }
+
+        // 2. 나머지는 Redis(L2)에서 한 번에 찾습니다.
+        List<PotDetailSnapshot> shared = readShared(localMisses);
+        List<Long> sharedMisses = new ArrayList<>();
+        for (int i = 0; i < localMisses.size(); i++) {
+            Long potId = localMisses.get(i);
+            PotDetailSnapshot snapshot = shared.get(i);
+            if (snapshot != null && snapshot.version() == versions.get(potId)) {
+                redisHits.increment();
+                putLocal(snapshot);
+                result.put(potId, snapshot);
+            } else {
+                redisMisses.increment();
+                sharedMisses.add(potId);
+            }
+        }
+        if (sharedMisses.isEmpty()) {
+            return result;
+        }
+
+        // 3. 어디에도 없는 팟만 DB에서 한 번에 조회하여 L1과 L2에 저장합니다.
+        for (PotDetailSnapshot loaded : loader.apply(sharedMisses)) {
+            putLocal(loaded);
+            writeShared(loaded);
+            result.put(loaded.potId(), loaded);
+        }
+        return result;
+    }
+
+    /**
+     * 팟 변경 트랜잭션이 커밋된 이후, 이 서버의 L1 항목과 Redis 항목을 지우고 다른 서버에 무효화 메시지를 보냅니다.
+     * 닉네임 변경처럼 PotService 밖에서 버전만 올라간 경우에는 조회 시 버전 비교로 새로 읽습니다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPotChanged(PotChangedEvent event) {
+        if (event.getType() == PotChangedEvent.Type.CREATED) {
+            return; // 새로 만든 팟은 아직 캐시된 적이 없습니다.
+        }
+        Long potId = event.getPotId();
+        localCache.invalidate(potId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + potId);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, potId.toString());
+        } catch (DataAccessException e) {
+            // 다른 서버의 L1 항목은 버전 비교로 걸러지고 TTL이 지나면 사라지므로, 응답은 실패시키지 않습니다.
+            log.warn("팟 상세 캐시 무효화 메시지를 보내지 못했습니다. potId={}", potId, e);
+        }
+    }
+
+    void onInvalidateMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 팟 상세 캐시 무효화 메시지입니다: {}", body);
+        }
+    }
+
+    // 동시에 조회한 이전 버전이 더 최신 항목을 덮어쓰지 않도록, 버전이 높거나 같은 쪽을 남깁니다.
+    private void putLocal(PotDetailSnapshot snapshot) {
+        localCache.asMap().merge(snapshot.potId(), snapshot,
+                (existing, loaded) -> existing.version() > loaded.version() ? existing : loaded);
+    }
+
+    private PotDetailSnapshot readShared(Long potId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + potId);
+            return json == null ? null : objectMapper.readValue(json, PotDetailSnapshot.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Redis에서 팟 상세 캐시를 읽지 못했습니다. DB에서 조회합니다. potId={}", potId, e);
+            return null;
+        }
+    }
+
+    // 팟 ID 목록과 같은 순서로, Redis에 없거나 읽지 못한 항목은 null로 채워 반환합니다.
+    private List<PotDetailSnapshot> readShared(List<Long> potIds) {
+        List<PotDetailSnapshot> snapshots = new ArrayList<>(potIds.size());
+        try {
+            List<String> jsons = redisTemplate.opsForValue().multiGet(potIds.stream().map(potId -> KEY_PREFIX + potId).toList());
+            for (int i = 0; i < potIds.size(); i++) {
+                String json = jsons == null ? null : jsons.get(i);
+                snapshots.add(json == null ? null : objectMapper.readValue(json, PotDetailSnapshot.class));
+            }
+            return snapshots;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Redis에서 팟 상세 캐시를 읽지 못했습니다. DB에서 조회합니다. potIds={}", potIds, e);
+            snapshots.clear();
+            potIds.forEach(potId -> snapshots.add(null));
+            return snapshots;
+        }
+    }
+
+    private void writeShared(PotDetailSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + snapshot.potId(), objectMapper.writeValueAsString(snapshot), redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Redis에 팟 상세 캐시를 저장하지 못했습니다. potId={}", snapshot.potId(), e);
+        }
+    }
+}
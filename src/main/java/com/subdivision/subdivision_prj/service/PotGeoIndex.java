@@ -0,0 +1,205 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.GeoBoundingBox;
+import com.subdivision.subdivision_prj.domain.GeoDistanceKernel;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팟(Pot)의 좌표를 고정 크기 격자(Grid) 셀 단위로 묶어 메모리에 보관하는 공간 인덱스입니다.
+ * 반경 검색 시 반경과 겹치는 셀만 방문하므로, DB에서 모든 팟을 읽어와 거리를 계산하던 방식보다 훨씬 적은 비용이 듭니다.
+ * 애플리케이션 시작 시 DB로부터 한 번 구축되고, 이후에는 PotChangedEvent를 통해 증분 갱신됩니다.
+ * @author subdivision
+ */
+@Slf4j
+@Component
+public class PotGeoIndex {
+
+    // 격자 셀 한 변의 크기(도 단위). 위도 0.01도는 약 1.1km 입니다.
+    static final double CELL_SIZE_DEGREES = 0.01;
+
+    private final PotRepository potRepository;
+
+    // 팟 ID -> 스냅샷
+    private final Map<Long, PotSnapshot> entries = new ConcurrentHashMap<>();
+    // 셀 키 -> 해당 셀에 속한 팟 ID 집합
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    // 쓰기(갱신/재구축)는 한 번에 하나씩만 수행되도록 잠금을 사용합니다. 읽기는 잠금 없이 수행됩니다.
+    private final Object writeLock = new Object();
+    private volatile boolean ready = false;
+
+    public PotGeoIndex(PotRepository potRepository) {
+        this.potRepository = potRepository;
+    }
+
+    /**
+     * DB에 저장된 모든 팟의 좌표로 인덱스를 (재)구축합니다.
+     * 구축이 끝나기 전까지 PotService는 DB 기반 검색을 사용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            // 잠금을 잡은 상태에서 조회하므로, 조회 중에 커밋된 변경 이벤트는 조회가 끝난 뒤 순서대로 반영됩니다.
+            List<PotSnapshot> snapshots = potRepository.findAllSnapshots();
+            entries.clear();
+            cells.clear();
+            snapshots.forEach(this::putInternal);
+            ready = true;
+            log.info("팟 공간 인덱스 구축 완료: {}건, {}개 셀", entries.size(), cells.size());
+        }
+    }
+
+    /**
+     * 팟 변경 트랜잭션이 커밋된 이후에 인덱스를 갱신합니다.
+     * 롤백된 변경이 인덱스에 반영되지 않도록 AFTER_COMMIT 단계에서 처리합니다.
+     */
+    @Order(0) // 검색 캐시(PotSearchCache)가 무효화되기 전에 먼저 갱신됩니다.
+    @TransactionalEventListener
+    public void onPotChanged(PotChangedEvent event) {
+        if (event.getCurrent() == null) {
+            remove(event.getPotId());
+        } else {
+            put(event.getCurrent());
+        }
+    }
+
+    public void put(PotSnapshot snapshot) {
+        synchronized (writeLock) {
+            putInternal(snapshot);
+        }
+    }
+
+    public void remove(Long potId) {
+        synchronized (writeLock) {
+            PotSnapshot old = entries.remove(potId);
+            if (old != null) {
+                removeFromCell(cellKey(old.getLatitude(), old.getLongitude()), potId);
+            }
+        }
+    }
+
+    /**
+     * 인덱스에 보관된 팟의 스냅샷을 반환합니다. (없다면 null)
+     */
+    public PotSnapshot get(Long potId) {
+        return entries.get(potId);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 중심 좌표로부터 지정된 반경(km) 이내에 있는 팟들의 스냅샷을 ID 오름차순으로 반환합니다.
+     * @param lat 중심점의 위도
+     * @param lon 중심점의 경도
+     * @param distanceKm 검색 반경(km)
+     */
+    public List<PotSnapshot> findWithin(double lat, double lon, double distanceKm) {
+        GeoDistanceKernel kernel = GeoDistanceKernel.around(lat, lon, distanceKm);
+        List<PotSnapshot> result = new ArrayList<>();
+        for (Long potId : candidateIds(GeoBoundingBox.around(lat, lon, distanceKm))) {
+            PotSnapshot snapshot = entries.get(potId);
+            if (snapshot != null && kernel.contains(snapshot.getLatitude(), snapshot.getLongitude())) {
+                result.add(snapshot);
+            }
+        }
+        result.sort(Comparator.comparing(PotSnapshot::getId));
+        return result;
+    }
+
+    /**
+     * 사각형 영역 안에 있는 팟들의 스냅샷을 반환합니다. (순서는 정해져 있지 않습니다)
+     */
+    public List<PotSnapshot> findInBox(GeoBoundingBox box) {
+        List<PotSnapshot> result = new ArrayList<>();
+        for (Long potId : candidateIds(box)) {
+            PotSnapshot snapshot = entries.get(potId);
+            if (snapshot != null && box.contains(snapshot.getLatitude(), snapshot.getLongitude())) {
+                result.add(snapshot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사각형과 겹치는 셀들에 속한 팟 ID를 모읍니다. (정확한 거리 검사 전의 1차 후보)
+     */
+    private List<Long> candidateIds(GeoBoundingBox box) {
+        int minLatCell = cellIndex(box.getMinLatitude());
+        int maxLatCell = cellIndex(box.getMaxLatitude());
+        int minLonCell = cellIndex(box.getMinLongitude());
+        int maxLonCell = cellIndex(box.getMaxLongitude());
+
+        List<Long> ids = new ArrayList<>();
+        long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+        if (cellCount > cells.size()) {
+            // 반경이 매우 커서 방문할 셀이 실제 존재하는 셀보다 많다면, 존재하는 셀을 모두 훑는 편이 더 빠릅니다.
+            cells.values().forEach(ids::addAll);
+            return ids;
+        }
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                Collection<Long> cell = cells.get(cellKey(latCell, lonCell));
+                if (cell != null) {
+                    ids.addAll(cell);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void putInternal(PotSnapshot snapshot) {
+        PotSnapshot old = entries.put(snapshot.getId(), snapshot);
+        long newKey = cellKey(snapshot.getLatitude(), snapshot.getLongitude());
+        if (old != null) {
+            long oldKey = cellKey(old.getLatitude(), old.getLongitude());
+            if (oldKey == newKey) {
+                return;
+            }
+            removeFromCell(oldKey, snapshot.getId());
+        }
+        cells.computeIfAbsent(newKey, key -> ConcurrentHashMap.newKeySet()).add(snapshot.getId());
+    }
+
+    private void removeFromCell(long key, Long potId) {
+        Set<Long> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(potId);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    static long cellKey(double lat, double lon) {
+        return cellKey(cellIndex(lat), cellIndex(lon));
+    }
+
+    static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
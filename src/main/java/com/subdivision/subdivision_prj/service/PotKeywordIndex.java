@@ -0,0 +1,387 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotKeywordDocument;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * 팟(Pot)의 제목/내용/상품명에 대한 메모리 역색인(Inverted Index)입니다.
+ * 한국어는 띄어쓰기만으로 단어를 나누기 어려우므로, 글자 단위의 bigram(2글자) 토큰을 사용합니다.
+ * 각 토큰의 게시 목록(posting list)은 팟 ID를 차이값(delta) + 가변 길이 정수(varint)로 압축하여 보관하고,
+ * 검색 시에는 게시 목록들과 카테고리/상태 BitSet의 교집합을 구하므로 SQL을 전혀 실행하지 않습니다.
+ * 애플리케이션 시작 시 DB로부터 한 번 구축되고, 이후에는 PotChangedEvent를 통해 증분 갱신됩니다.
+ * @author subdivision
+ */
+@Slf4j
+@Component
+public class PotKeywordIndex {
+
+    // 필드(제목, 내용, 상품명) 사이의 구분자. 검색어에는 포함될 수 없으므로 필드 경계를 넘는 토큰은 만들어지지 않습니다.
+    private static final char FIELD_SEPARATOR = '\n';
+    // 1글자 토큰(unigram)은 bigram과 키가 겹치지 않도록 상위 16비트를 0xFFFF로 채웁니다.
+    private static final int UNIGRAM_PREFIX = 0xFFFF0000;
+
+    private final PotRepository potRepository;
+    private final boolean enabled;
+
+    // 검색과 갱신이 동시에 일어나도 안전하도록 읽기/쓰기 잠금을 사용합니다.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 갱신(증분/재구축)은 한 번에 하나씩만 수행되도록 별도의 잠금을 사용합니다.
+    private final Object writeMonitor = new Object();
+    private IndexData data = new IndexData();
+    private volatile boolean ready = false;
+
+    public PotKeywordIndex(PotRepository potRepository,
+                           @Value("${pot.search.keyword-index.enabled:true}") boolean enabled) {
+        this.potRepository = potRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * DB에 저장된 모든 팟의 텍스트로 역색인을 (재)구축합니다.
+     * 새 색인은 별도로 만든 뒤 한 번에 교체하므로, 구축 중에도 기존 색인으로 검색할 수 있습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeMonitor) {
+            IndexData fresh = new IndexData();
+            List<PotKeywordDocument> documents = new ArrayList<>(potRepository.findAllKeywordDocuments());
+            // ID 오름차순으로 추가하면 모든 게시 목록이 뒤에 이어 붙이기(append)만으로 만들어집니다.
+            documents.sort(Comparator.comparing(PotKeywordDocument::getId));
+            documents.forEach(fresh::put);
+
+            lock.writeLock().lock();
+            try {
+                data = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("팟 키워드 역색인 구축 완료: 문서 {}건, 토큰 {}개", fresh.documents.size(), fresh.postings.size());
+        }
+    }
+
+    /**
+     * 팟 변경 트랜잭션이 커밋된 이후에 역색인을 갱신합니다.
+     * 참여/참여취소는 상태만 바뀌므로 BitSet만 갱신하고, 생성/수정은 변경된 텍스트를 DB에서 다시 읽어 반영합니다.
+     */
+    @Order(0) // 검색 캐시(PotSearchCache)가 무효화되기 전에 먼저 갱신됩니다.
+    @TransactionalEventListener
+    public void onPotChanged(PotChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeMonitor) {
+            switch (event.getType()) {
+                case DELETED -> write(index -> index.remove(event.getPotId()));
+                case MEMBERSHIP -> write(index -> index.updateStatus(event.getCurrent()));
+                default -> potRepository.findKeywordDocumentById(event.getPotId())
+                        .ifPresentOrElse(document -> write(index -> index.put(document)),
+                                () -> write(index -> index.remove(event.getPotId())));
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 키워드, 카테고리, 상태 조건을 모두 만족하는 팟 ID의 집합을 반환합니다.
+     * @param keyword 검색 키워드 (필수)
+     * @param category 카테고리 필터 (null이면 무시)
+     * @param status 상태 필터 (null이면 무시)
+     * @return 조건에 맞는 팟 ID가 켜진(set) BitSet
+     */
+    public BitSet search(String keyword, PotCategory category, PotStatus status) {
+        String query = normalize(keyword.trim());
+        lock.readLock().lock();
+        try {
+            IndexData index = data;
+            BitSet result = index.matchTokens(query);
+            if (category != null) {
+                result.and(index.categoryBits.getOrDefault(category, new BitSet()));
+            }
+            if (status != null) {
+                result.and(index.statusBits.getOrDefault(status, new BitSet()));
+            }
+            // bigram 교집합은 토큰이 모두 '어딘가에' 등장하는 문서이므로, 연속된 문자열로 포함되는지 최종 확인합니다.
+            if (query.length() > 1) {
+                for (int id = result.nextSetBit(0); id >= 0; id = result.nextSetBit(id + 1)) {
+                    if (!index.documents.get((long) id).text().contains(query)) {
+                        result.clear(id);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Consumer<IndexData> mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.accept(data);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 텍스트를 unigram + bigram 토큰 키 집합으로 분해합니다. 필드 구분자를 포함하는 토큰은 만들지 않습니다.
+     */
+    static Set<Integer> tokenize(String text) {
+        Set<Integer> tokens = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (current == FIELD_SEPARATOR) {
+                continue;
+            }
+            tokens.add(UNIGRAM_PREFIX | current);
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                tokens.add(bigram(current, text.charAt(i + 1)));
+            }
+        }
+        return tokens;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 색인된 한 문서의 정규화된 텍스트와 필터 값입니다.
+     */
+    private record IndexedDocument(String text, PotCategory category, PotStatus status) {
+    }
+
+    /**
+     * 역색인을 구성하는 자료구조 묶음입니다. 재구축 시 통째로 교체됩니다.
+     */
+    private static final class IndexData {
+        private final Map<Integer, PostingList> postings = new HashMap<>();
+        private final Map<Long, IndexedDocument> documents = new HashMap<>();
+        private final Map<PotCategory, BitSet> categoryBits = new EnumMap<>(PotCategory.class);
+        private final Map<PotStatus, BitSet> statusBits = new EnumMap<>(PotStatus.class);
+
+        void put(PotKeywordDocument document) {
+            int id = Math.toIntExact(document.getId());
+            String text = normalize(document.getTitle()) + FIELD_SEPARATOR
+                    + normalize(document.getContent()) + FIELD_SEPARATOR
+                    + normalize(document.getProductName());
+            IndexedDocument previous = documents.put(document.getId(),
+                    new IndexedDocument(text, document.getCategory(), document.getStatus()));
+
+            // 이전 텍스트와 비교하여 사라진 토큰에서는 제거하고, 새로 생긴 토큰에만 추가합니다.
+            Set<Integer> newTokens = tokenize(text);
+            if (previous != null) {
+                Set<Integer> oldTokens = tokenize(previous.text());
+                for (Integer token : oldTokens) {
+                    if (!newTokens.contains(token)) {
+                        removePosting(token, id);
+                    }
+                }
+                newTokens.removeAll(oldTokens);
+                clearFilterBits(id, previous);
+            }
+            for (Integer token : newTokens) {
+                postings.computeIfAbsent(token, key -> new PostingList()).add(id);
+            }
+            categoryBits.computeIfAbsent(document.getCategory(), key -> new BitSet()).set(id);
+            statusBits.computeIfAbsent(document.getStatus(), key -> new BitSet()).set(id);
+        }
+
+        void remove(Long potId) {
+            IndexedDocument previous = documents.remove(potId);
+            if (previous == null) {
+                return;
+            }
+            int id = Math.toIntExact(potId);
+            for (Integer token : tokenize(previous.text())) {
+                removePosting(token, id);
+            }
+            clearFilterBits(id, previous);
+        }
+
+        void updateStatus(PotSnapshot snapshot) {
+            IndexedDocument previous = documents.get(snapshot.getId());
+            if (previous == null || previous.status() == snapshot.getStatus()) {
+                return;
+            }
+            int id = Math.toIntExact(snapshot.getId());
+            statusBits.get(previous.status()).clear(id);
+            statusBits.computeIfAbsent(snapshot.getStatus(), key -> new BitSet()).set(id);
+            documents.put(snapshot.getId(), new IndexedDocument(previous.text(), previous.category(), snapshot.getStatus()));
+        }
+
+        /**
+         * 검색어의 모든 토큰이 등장하는 문서의 집합을 구합니다. 가장 짧은 게시 목록부터 교집합을 구합니다.
+         */
+        BitSet matchTokens(String query) {
+            if (query.isEmpty()) {
+                return new BitSet();
+            }
+            int[] tokens = query.length() == 1
+                    ? new int[]{UNIGRAM_PREFIX | query.charAt(0)}
+                    : IntStream.range(0, query.length() - 1)
+                        .map(i -> bigram(query.charAt(i), query.charAt(i + 1)))
+                        .distinct()
+                        .toArray();
+
+            PostingList[] lists = new PostingList[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                lists[i] = postings.get(tokens[i]);
+                if (lists[i] == null) {
+                    return new BitSet(); // 한 번도 등장하지 않은 토큰이 있다면 결과는 비어 있습니다.
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(PostingList::count));
+
+            BitSet result = lists[0].toBitSet();
+            for (int i = 1; i < lists.length && !result.isEmpty(); i++) {
+                result.and(lists[i].toBitSet());
+            }
+            return result;
+        }
+
+        private void removePosting(Integer token, int id) {
+            PostingList list = postings.get(token);
+            if (list != null && list.remove(id) && list.count() == 0) {
+                postings.remove(token);
+            }
+        }
+
+        private void clearFilterBits(int id, IndexedDocument previous) {
+            categoryBits.get(previous.category()).clear(id);
+            statusBits.get(previous.status()).clear(id);
+        }
+    }
+
+    /**
+     * 오름차순 팟 ID 목록을 "이전 ID와의 차이값"을 가변 길이 정수(varint)로 이어 붙여 압축한 게시 목록입니다.
+     * 차이값은 대부분 작기 때문에 ID 하나당 1~2바이트만 사용합니다.
+     * 새 팟은 항상 가장 큰 ID를 가지므로 추가는 대부분 뒤에 이어 붙이기로 끝나고,
+     * 중간 삽입/삭제(수정, 삭제 시)만 목록을 다시 인코딩합니다.
+     */
+    static final class PostingList {
+        private byte[] bytes = new byte[4];
+        private int length = 0;  // 사용 중인 바이트 수
+        private int count = 0;   // 들어 있는 ID 개수
+        private int last = -1;   // 마지막(가장 큰) ID
+
+        int count() {
+            return count;
+        }
+
+        void add(int id) {
+            if (id > last) {
+                append(id);
+                return;
+            }
+            int[] ids = decode();
+            int position = Arrays.binarySearch(ids, id);
+            if (position >= 0) {
+                return; // 이미 포함된 ID
+            }
+            int insertAt = -position - 1;
+            int[] merged = new int[ids.length + 1];
+            System.arraycopy(ids, 0, merged, 0, insertAt);
+            merged[insertAt] = id;
+            System.arraycopy(ids, insertAt, merged, insertAt + 1, ids.length - insertAt);
+            encode(merged);
+        }
+
+        boolean remove(int id) {
+            int[] ids = decode();
+            int position = Arrays.binarySearch(ids, id);
+            if (position < 0) {
+                return false;
+            }
+            int[] remaining = new int[ids.length - 1];
+            System.arraycopy(ids, 0, remaining, 0, position);
+            System.arraycopy(ids, position + 1, remaining, position, ids.length - position - 1);
+            encode(remaining);
+            return true;
+        }
+
+        BitSet toBitSet() {
+            BitSet bits = new BitSet(last + 1);
+            int offset = 0;
+            int value = 0;
+            while (offset < length) {
+                int delta = 0;
+                int shift = 0;
+                byte current;
+                do {
+                    current = bytes[offset++];
+                    delta |= (current & 0x7F) << shift;
+                    shift += 7;
+                } while ((current & 0x80) != 0);
+                value += delta;
+                bits.set(value);
+            }
+            return bits;
+        }
+
+        int[] decode() {
+            return toBitSet().stream().toArray();
+        }
+
+        private void encode(int[] ids) {
+            length = 0;
+            count = 0;
+            last = -1;
+            for (int id : ids) {
+                append(id);
+            }
+        }
+
+        private void append(int id) {
+            int delta = last < 0 ? id : id - last;
+            if (bytes.length - length < 5) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+            }
+            while ((delta & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            bytes[length++] = (byte) delta;
+            last = id;
+            count++;
+        }
+    }
+}
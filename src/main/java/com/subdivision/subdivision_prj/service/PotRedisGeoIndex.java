@@ -0,0 +1,334 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모집중인 팟의 좌표를 Redis GEO 집합(Sorted Set)에 보관하는 공간 인덱스입니다.
+ * PotGeoIndex는 서버마다 메모리에 따로 존재하지만, 이 인덱스는 모든 서버가 같은 Redis를 바라보므로
+ * 다른 서버에서 생성/수정된 팟도 바로 검색되고, GEOSEARCH가 반경 검색과 거리순 정렬을 Redis 안에서 처리합니다.
+ * 전체 집합(pots:geo:recruiting)과 카테고리별 집합(pots:geo:recruiting:{카테고리})을 함께 유지합니다.
+ * <p>
+ * 집합이 DB와 일치하는지는 서버마다의 플래그가 아니라 Redis의 완료 표시(pots:geo:ready)로 판단하므로, 모든 서버가 같은 판단을 합니다.
+ * - 재구축이 끝까지 성공해야 완료 표시가 생기고, 검색은 완료 표시가 있을 때만 집합을 사용합니다. (확인과 검색을 Lua 스크립트 하나로 수행)
+ * - 어느 서버든 갱신에 실패하면 완료 표시를 지우므로, 다른 서버도 바로 메모리/DB 검색으로 전환하고 재구축을 요청합니다.
+ * - 재구축 중(pots:geo:rebuilding)에 변경된 팟은 ID를 따로 모아 두었다가, 집합을 교체한 뒤 DB의 최신 상태로 다시 반영합니다.
+ * @author subdivision
+ */
+@Slf4j
+@Component
+public class PotRedisGeoIndex {
+
+    static final String RECRUITING_KEY = "pots:geo:recruiting";
+    // 집합이 완전하다는 표시 (값은 마지막으로 성공한 재구축의 ID)
+    static final String READY_KEY = "pots:geo:ready";
+    // 재구축 중인 서버의 재구축 ID. 한 번에 한 서버만 재구축하도록 잠금으로도 사용합니다.
+    static final String REBUILDING_KEY = "pots:geo:rebuilding";
+    // 재구축 중에 변경된 팟 ID 집합의 키 접두사 (뒤에 재구축 ID)
+    static final String TOUCHED_KEY_PREFIX = "pots:geo:touched:";
+    // 한 번의 GEOADD에 담을 최대 팟 수 (재구축 시 Redis를 오래 점유하지 않도록 나누어 보냅니다)
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 재구축하던 서버가 중간에 종료되더라도, 이 시간이 지나면 다른 서버가 다시 재구축할 수 있습니다.
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(10);
+    // 완료 표시가 없을 때 한 서버가 재구축을 요청하는 최소 간격
+    private static final long REBUILD_RETRY_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    // 완료 표시가 있을 때만 GEOSEARCH 결과([팟 ID, 거리] 목록)를 반환하고, 없으면 nil을 반환합니다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SEARCH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return false end " +
+            "return redis.call('GEOSEARCH', KEYS[1], 'FROMLONLAT', ARGV[1], ARGV[2], 'BYRADIUS', ARGV[3], 'km', 'ASC', 'WITHDIST')",
+            List.class);
+    // 재구축 도중 갱신 실패로 잠금이 지워지지 않았을 때만, 잠금을 풀고 완료 표시를 남깁니다.
+    private static final RedisScript<Long> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1], KEYS[3]) " +
+            "redis.call('SET', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PotRepository potRepository;
+    private final boolean enabled;
+    // 갱신에 실패한 뒤 완료 표시를 지우는 것까지 실패했다면, 다음에 Redis에 접근할 때 다시 지웁니다.
+    private volatile boolean staleMarkPending = false;
+    private final AtomicLong lastRebuildRequest = new AtomicLong();
+
+    public PotRedisGeoIndex(StringRedisTemplate redisTemplate, PotRepository potRepository,
+                            @Value("${pot.search.redis-geo.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.potRepository = potRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 애플리케이션 시작 시 Redis 집합을 준비합니다.
+     * 다른 서버가 완전하게 만들어 둔 집합(완료 표시가 있는 집합)이 있다면 변경 이벤트로 최신 상태가 유지되고 있으므로 그대로 사용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                log.info("기존 Redis GEO 인덱스를 사용합니다: {}건", redisTemplate.opsForZSet().zCard(RECRUITING_KEY));
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis GEO 인덱스를 확인하지 못했습니다. 메모리/DB 검색을 사용합니다.", e);
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * DB에 저장된 모집중인 팟으로 Redis 집합을 다시 구축합니다.
+     * 임시 키에 모두 채운 뒤 RENAME으로 교체하므로, 구축 중에도 (완료 표시가 남아 있다면) 검색은 이전 집합으로 계속 응답합니다.
+     * 다른 서버가 이미 재구축 중이라면 그 서버에 맡기고 바로 반환합니다.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        String rebuildId = UUID.randomUUID().toString();
+        try {
+            // 1. 재구축 잠금을 잡습니다. 이후에 커밋된 변경은 변경된 팟 ID 집합에 기록됩니다.
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILDING_KEY, rebuildId, REBUILD_TIMEOUT))) {
+                log.info("다른 서버에서 Redis GEO 인덱스를 재구축하고 있습니다.");
+                return;
+            }
+
+            // 2. 잠금을 잡은 뒤에 DB를 조회하므로, 잠금 이전에 커밋된 변경은 모두 조회 결과에 포함됩니다.
+            Map<String, Map<String, Point>> membersByKey = new HashMap<>();
+            membersByKey.put(RECRUITING_KEY, new HashMap<>());
+            for (PotCategory category : PotCategory.values()) {
+                membersByKey.put(categoryKey(category), new HashMap<>());
+            }
+            for (PotSnapshot snapshot : potRepository.findAllSnapshots()) {
+                if (snapshot.getStatus() == PotStatus.RECRUITING) {
+                    Point point = new Point(snapshot.getLongitude(), snapshot.getLatitude());
+                    membersByKey.get(RECRUITING_KEY).put(member(snapshot.getId()), point);
+                    membersByKey.get(categoryKey(snapshot.getCategory())).put(member(snapshot.getId()), point);
+                }
+            }
+
+            // 3. 집합별로 임시 키를 채운 뒤 원래 키로 교체합니다.
+            membersByKey.forEach(this::replace);
+
+            // 4. [핵심] 구축하는 동안 변경된 팟은 교체로 덮어써졌을 수 있으므로, DB의 최신 상태로 다시 반영합니다.
+            //    교체 이후의 변경은 이미 새 집합에 직접 반영되므로, 교체 직후의 목록만 반영하면 됩니다.
+            String touchedKey = TOUCHED_KEY_PREFIX + rebuildId;
+            Set<String> touched = redisTemplate.opsForSet().members(touchedKey);
+            if (touched != null && !touched.isEmpty()) {
+                replay(touched);
+            }
+
+            // 5. 그 사이 갱신 실패로 잠금이 지워지지 않았다면 완료 표시를 남깁니다.
+            Long finished = redisTemplate.execute(FINISH_REBUILD_SCRIPT,
+                    List.of(REBUILDING_KEY, READY_KEY, touchedKey), rebuildId);
+            if (finished != null && finished == 1) {
+                log.info("Redis GEO 인덱스 구축 완료: {}건 (구축 중 변경 {}건 재반영)",
+                        membersByKey.get(RECRUITING_KEY).size(), touched == null ? 0 : touched.size());
+            } else {
+                log.warn("Redis GEO 인덱스 구축 중 갱신 실패가 있어 완료로 표시하지 않습니다. 메모리/DB 검색을 사용합니다.");
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis GEO 인덱스를 구축하지 못했습니다. 메모리/DB 검색을 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 팟 변경 트랜잭션이 커밋된 이후에 Redis 집합을 갱신합니다.
+     * 모집중인 팟은 GEOADD로 추가(또는 위치 갱신)하고, 삭제되거나 모집이 끝난 팟은 ZREM으로 제거합니다.
+     * 재구축 중이라면 반영하기 전에 팟 ID를 먼저 기록하여, 집합이 교체되더라도 재구축이 다시 반영하도록 합니다.
+     */
+    @TransactionalEventListener
+    public void onPotChanged(PotChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        PotSnapshot previous = event.getPrevious();
+        PotSnapshot current = event.getCurrent();
+        Collection<PotCategory> otherCategories =
+                previous != null && (current == null || previous.getCategory() != current.getCategory())
+                        ? List.of(previous.getCategory())
+                        : List.of();
+        try {
+            retryMarkStale();
+            String rebuildId = redisTemplate.opsForValue().get(REBUILDING_KEY);
+            if (rebuildId != null) {
+                String touchedKey = TOUCHED_KEY_PREFIX + rebuildId;
+                redisTemplate.opsForSet().add(touchedKey, member(event.getPotId()));
+                redisTemplate.expire(touchedKey, REBUILD_TIMEOUT);
+            }
+            write(event.getPotId(), current, otherCategories);
+        } catch (DataAccessException e) {
+            log.warn("Redis GEO 인덱스 갱신 실패 (팟 ID: {}). 재구축 전까지 모든 서버가 메모리/DB 검색을 사용합니다.", event.getPotId(), e);
+            markStale();
+        }
+    }
+
+    /**
+     * 중심 좌표로부터 반경(km) 이내의 모집중인 팟을 가까운 순으로 반환합니다.
+     * (GEOSEARCH key FROMLONLAT lon lat BYRADIUS km KM ASC WITHDIST)
+     * @param category 카테고리 (null이면 전체)
+     * @return Redis를 사용할 수 없거나 집합이 완전하지 않다면 Optional.empty()
+     */
+    public Optional<List<GeoHit>> findWithin(double lat, double lon, double distanceKm, PotCategory category) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            retryMarkStale();
+            List<?> results = redisTemplate.execute(SEARCH_SCRIPT,
+                    List.of(category == null ? RECRUITING_KEY : categoryKey(category), READY_KEY),
+                    String.valueOf(lon), String.valueOf(lat), String.valueOf(distanceKm));
+            if (results == null) {
+                // 완료 표시가 없습니다. (아직 구축되지 않았거나, 어느 서버에서 갱신에 실패함)
+                requestRebuild();
+                return Optional.empty();
+            }
+            List<GeoHit> hits = new ArrayList<>(results.size());
+            for (Object result : results) {
+                List<?> hit = (List<?>) result;
+                hits.add(new GeoHit(Long.valueOf(hit.get(0).toString()), Double.parseDouble(hit.get(1).toString())));
+            }
+            return Optional.of(hits);
+        } catch (DataAccessException e) {
+            log.warn("Redis GEO 검색 실패. 메모리/DB 검색을 사용합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 팟 하나의 현재 상태를 집합들에 반영합니다.
+     * @param current 현재 스냅샷 (삭제되었다면 null)
+     * @param otherCategories 현재 카테고리 외에 팟을 제거해야 하는 카테고리 집합
+     */
+    private void write(Long potId, PotSnapshot current, Collection<PotCategory> otherCategories) {
+        String member = member(potId);
+        if (current != null && current.getStatus() == PotStatus.RECRUITING) {
+            Point point = new Point(current.getLongitude(), current.getLatitude());
+            redisTemplate.opsForGeo().add(RECRUITING_KEY, point, member);
+            redisTemplate.opsForGeo().add(categoryKey(current.getCategory()), point, member);
+        } else {
+            redisTemplate.opsForZSet().remove(RECRUITING_KEY, member);
+            if (current != null) {
+                redisTemplate.opsForZSet().remove(categoryKey(current.getCategory()), member);
+            }
+        }
+        for (PotCategory category : otherCategories) {
+            redisTemplate.opsForZSet().remove(categoryKey(category), member);
+        }
+    }
+
+    /**
+     * 재구축 중에 변경된 팟들을 DB에서 다시 조회하여 반영합니다.
+     * 이전 카테고리를 알 수 없으므로, 현재 카테고리가 아닌 모든 카테고리 집합에서 제거합니다.
+     */
+    private void replay(Set<String> touched) {
+        List<Long> potIds = touched.stream().map(Long::valueOf).toList();
+        Map<Long, PotSnapshot> snapshots = new HashMap<>();
+        potRepository.findSnapshotsByIdIn(potIds).forEach(snapshot -> snapshots.put(snapshot.getId(), snapshot));
+        for (Long potId : potIds) {
+            PotSnapshot current = snapshots.get(potId);
+            EnumSet<PotCategory> otherCategories = EnumSet.allOf(PotCategory.class);
+            if (current != null) {
+                otherCategories.remove(current.getCategory());
+            }
+            write(potId, current, otherCategories);
+        }
+    }
+
+    /**
+     * 집합이 DB와 어긋났으므로 모든 서버가 사용하지 않도록 완료 표시를 지웁니다.
+     * 진행 중인 재구축이 완료 표시를 다시 남기지 않도록 재구축 잠금도 함께 지웁니다.
+     */
+    private void markStale() {
+        try {
+            redisTemplate.delete(Arrays.asList(READY_KEY, REBUILDING_KEY));
+            staleMarkPending = false;
+        } catch (DataAccessException e) {
+            staleMarkPending = true;
+            log.warn("Redis GEO 인덱스의 완료 표시를 지우지 못했습니다. 다음 Redis 접근 시 다시 시도합니다.", e);
+        }
+    }
+
+    private void retryMarkStale() {
+        if (staleMarkPending) {
+            redisTemplate.delete(Arrays.asList(READY_KEY, REBUILDING_KEY));
+            staleMarkPending = false;
+        }
+    }
+
+    /**
+     * 완료 표시가 없을 때 백그라운드에서 재구축을 시작합니다. (서버마다 최소 간격을 두고, 서버 간에는 재구축 잠금으로 한 번만 수행)
+     */
+    private void requestRebuild() {
+        long now = System.currentTimeMillis();
+        long last = lastRebuildRequest.get();
+        if (now - last < REBUILD_RETRY_INTERVAL_MILLIS || !lastRebuildRequest.compareAndSet(last, now)) {
+            return;
+        }
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    private void replace(String key, Map<String, Point> members) {
+        if (members.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String temporaryKey = key + ":rebuild:" + UUID.randomUUID();
+        List<Map.Entry<String, Point>> entries = new ArrayList<>(members.entrySet());
+        for (int from = 0; from < entries.size(); from += REBUILD_BATCH_SIZE) {
+            Map<String, Point> batch = new HashMap<>();
+            entries.subList(from, Math.min(from + REBUILD_BATCH_SIZE, entries.size()))
+                    .forEach(entry -> batch.put(entry.getKey(), entry.getValue()));
+            redisTemplate.opsForGeo().add(temporaryKey, batch);
+        }
+        redisTemplate.rename(temporaryKey, key);
+    }
+
+    static String categoryKey(PotCategory category) {
+        return RECRUITING_KEY + ":" + category.name();
+    }
+
+    private static String member(Long potId) {
+        return String.valueOf(potId);
+    }
+
+    /**
+     * 반경 검색 결과 한 건 (팟 ID와 중심점으로부터의 거리)
+     */
+    public record GeoHit(Long potId, double distanceKm) {
+    }
+}
@@ -0,0 +1,227 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.subdivision.subdivision_prj.domain.GeoBoundingBox;
+import com.subdivision.subdivision_prj.domain.GeoDistanceKernel;
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 위치 기반 팟 검색(/api/pots/search)의 후보 ID 목록을 보관하는 캐시입니다.
+ * 같은 동네에서 비슷한 좌표로 들어오는 검색이 같은 항목을 공유하도록, 중심 좌표는 격자 셀로, 반경은 km 단위로 올림하여 키를 만듭니다.
+ * 값은 DTO가 아니라 "셀 중심에서 (반경 + 셀 반 대각선) 이내"의 팟 ID 배열이므로,
+ * 실제 요청 좌표 기준의 정확한 거리 필터는 캐시에서 꺼낸 뒤 PotService가 다시 적용합니다.
+ * 팟이 생성/수정/삭제되거나 참여 인원이 바뀌면, 그 팟의 이전/현재 위치를 덮는 항목만 골라서 제거합니다.
+ * 이때 전체 키를 훑지 않도록 "반경 구간 -> 셀 -> 키" 보조 색인을 두고, 팟 위치 주변의 셀만 방문합니다.
+ * @author subdivision
+ */
+@Component
+public class PotSearchCache {
+
+    // 캐시 키의 격자 크기(도 단위). 위도 0.01도는 약 1.1km 입니다.
+    static final double CELL_SIZE_DEGREES = PotGeoIndex.CELL_SIZE_DEGREES;
+    // 셀 안의 어느 좌표든 셀 중심까지의 거리는 이 값 이하입니다. (셀 한 변 약 1.11km의 반 대각선)
+    static final double CELL_HALF_DIAGONAL_KM = CELL_SIZE_DEGREES * 111.32 * Math.sqrt(2) / 2;
+
+    private final Cache<Key, long[]> cache;
+    // 보조 색인: 반경 구간(km) -> 셀 키 -> 그 셀과 반경을 공유하는 캐시 키들
+    // 같은 셀, 같은 반경의 키들은 덮는 원이 같으므로 거리 커널(중심점의 삼각함수 값)을 한 번만 만들어 공유합니다.
+    private final Map<Integer, Map<Long, CoverGroup>> groupsByRadius = new ConcurrentHashMap<>();
+    // 무효화가 일어날 때마다 증가합니다. 조회 도중 무효화가 끼어들었다면 그 결과는 캐시에 남기지 않습니다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PotSearchCache(MeterRegistry meterRegistry,
+                          @Value("${pot.search.cache.max-ids:1000000}") long maxIds,
+                          @Value("${pot.search.cache.ttl:10m}") Duration ttl) {
+        // [핵심] 항목 수가 아니라 보관 중인 ID의 총 개수로 크기를 제한하여, 메모리 사용량의 상한을 보장합니다.
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((Key key, long[] ids) -> ids.length + 1)
+                .expireAfterWrite(ttl)
+                // 크기/만료로 제거될 때 같은 원자적 연산 안에서 보조 색인에서도 뺍니다.
+                .evictionListener((Key key, long[] ids, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등의 지표를 /actuator/metrics로 노출합니다.
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "potSearch");
+    }
+
+    /**
+     * 캐시된 후보 ID 배열을 반환하고, 없다면 loader로 계산하여 저장합니다.
+     * @param loader 키의 셀 중심 좌표와 덮는 반경으로 후보 ID를 계산하는 함수
+     */
+    public long[] get(Key key, Function<Key, long[]> loader) {
+        long before = invalidations.get();
+        long[] ids = cache.get(key, k -> {
+            long[] loaded = loader.apply(k);
+            if (loaded != null) {
+                index(k);
+            }
+            return loaded;
+        });
+        if (invalidations.get() != before) {
+            // 계산 도중 커밋된 변경이 반영되지 않았을 수 있으므로, 이번 결과는 사용하되 저장하지 않습니다.
+            remove(key);
+        }
+        return ids;
+    }
+
+    /**
+     * 팟 변경 트랜잭션이 커밋된 이후, 그 팟의 이전/현재 위치를 덮는 캐시 항목만 제거합니다.
+     * 캐시를 다시 채울 때 최신 색인을 읽도록, 공간/키워드 색인이 갱신된 다음에 실행됩니다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPotChanged(PotChangedEvent event) {
+        invalidations.incrementAndGet();
+        removeCovering(event.getPrevious());
+        removeCovering(event.getCurrent());
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        // 색인을 먼저 비웁니다. 그 사이 새로 저장된 항목은 곧바로 함께 제거되므로 색인에 없는 항목이 남지 않습니다.
+        groupsByRadius.clear();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 좌표를 덮는 캐시 항목을 제거합니다.
+     * 반경 구간마다 좌표에서 (반경 + 셀 반 대각선) 이내의 셀만 방문하고, 셀마다 공유하는 커널로 한 번만 거리를 판정합니다.
+     */
+    private void removeCovering(PotSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        double lat = snapshot.getLatitude();
+        double lon = snapshot.getLongitude();
+        List<Key> covering = new ArrayList<>();
+        groupsByRadius.forEach((radiusKm, groups) -> {
+            GeoBoundingBox box = GeoBoundingBox.around(lat, lon, radiusKm + CELL_HALF_DIAGONAL_KM);
+            int minLatCell = PotGeoIndex.cellIndex(box.getMinLatitude());
+            int maxLatCell = PotGeoIndex.cellIndex(box.getMaxLatitude());
+            int minLonCell = PotGeoIndex.cellIndex(box.getMinLongitude());
+            int maxLonCell = PotGeoIndex.cellIndex(box.getMaxLongitude());
+            long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+            if (cellCount > groups.size()) {
+                // 방문할 셀이 이 반경 구간에 실제로 있는 셀보다 많다면, 있는 셀을 모두 확인하는 편이 더 빠릅니다.
+                groups.values().forEach(group -> group.collectIfCovers(lat, lon, covering));
+                return;
+            }
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    CoverGroup group = groups.get(PotGeoIndex.cellKey(latCell, lonCell));
+                    if (group != null) {
+                        group.collectIfCovers(lat, lon, covering);
+                    }
+                }
+            }
+        });
+        covering.forEach(this::remove);
+    }
+
+    /**
+     * 캐시 항목과 보조 색인을 같은 키의 원자적 연산 안에서 함께 제거합니다.
+     */
+    private void remove(Key key) {
+        cache.asMap().computeIfPresent(key, (k, ids) -> {
+            unindex(k);
+            return null;
+        });
+    }
+
+    private void index(Key key) {
+        groupsByRadius.computeIfAbsent(key.radiusKm(), radiusKm -> new ConcurrentHashMap<>())
+                .compute(key.cellKey(), (cellKey, group) -> {
+                    CoverGroup target = group != null ? group : new CoverGroup(key);
+                    target.keys.add(key);
+                    return target;
+                });
+    }
+
+    private void unindex(Key key) {
+        Map<Long, CoverGroup> groups = groupsByRadius.get(key.radiusKm());
+        if (groups == null) {
+            return;
+        }
+        groups.computeIfPresent(key.cellKey(), (cellKey, group) -> {
+            group.keys.remove(key);
+            return group.keys.isEmpty() ? null : group;
+        });
+    }
+
+    /**
+     * 같은 셀, 같은 반경 구간의 캐시 키 묶음과 그 묶음이 덮는 원의 거리 커널입니다.
+     */
+    private static final class CoverGroup {
+
+        private final GeoDistanceKernel kernel;
+        private final Set<Key> keys = ConcurrentHashMap.newKeySet();
+
+        private CoverGroup(Key key) {
+            this.kernel = GeoDistanceKernel.around(key.centerLatitude(), key.centerLongitude(), key.coverRadiusKm());
+        }
+
+        private void collectIfCovers(double lat, double lon, List<Key> out) {
+            if (kernel.contains(lat, lon)) {
+                out.addAll(keys);
+            }
+        }
+    }
+
+    /**
+     * 캐시 키 (격자 셀, 반경 구간, 카테고리, 상태, 정규화된 키워드)
+     */
+    public record Key(int latCell, int lonCell, int radiusKm, PotCategory category, PotStatus status, String keyword) {
+
+        /**
+         * 검색 조건을 캐시 키로 변환합니다. 반경은 km 단위로 올림하고, 키워드는 앞뒤 공백과 대소문자를 무시합니다.
+         */
+        public static Key of(double lat, double lon, double distanceKm, String keyword,
+                             PotCategory category, PotStatus status) {
+            return new Key(PotGeoIndex.cellIndex(lat), PotGeoIndex.cellIndex(lon),
+                    Math.max(1, (int) Math.ceil(distanceKm)), category, status,
+                    keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT));
+        }
+
+        public double centerLatitude() {
+            return (latCell + 0.5) * CELL_SIZE_DEGREES;
+        }
+
+        public double centerLongitude() {
+            return (lonCell + 0.5) * CELL_SIZE_DEGREES;
+        }
+
+        /**
+         * 셀 안의 어느 좌표에서 반경(radiusKm)으로 검색하더라도 결과가 모두 포함되는, 셀 중심 기준의 반경(km)
+         */
+        public double coverRadiusKm() {
+            return radiusKm + CELL_HALF_DIAGONAL_KM;
+        }
+
+        long cellKey() {
+            return PotGeoIndex.cellKey(latCell, lonCell);
+        }
+    }
+}
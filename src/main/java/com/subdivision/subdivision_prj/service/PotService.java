@@ -1,26 +1,54 @@
 package com.subdivision.subdivision_prj.service;
 
-import com.amazonaws.HttpMethod;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.subdivision.subdivision_prj.domain.*;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import com.subdivision.subdivision_prj.domain.event.PotMemberChangedEvent;
 import com.subdivision.subdivision_prj.domain.specification.PotSpecification;
+import com.subdivision.subdivision_prj.dto.CursorPageResponseDto;
+import com.subdivision.subdivision_prj.dto.PotBatchItemDto;
 import com.subdivision.subdivision_prj.dto.PotCreateRequestDto;
+import com.subdivision.subdivision_prj.dto.PotCursor;
+import com.subdivision.subdivision_prj.dto.PotFacetResponseDto;
+import com.subdivision.subdivision_prj.dto.PotFieldSet;
 import com.subdivision.subdivision_prj.dto.PotResponseDto;
+import com.subdivision.subdivision_prj.dto.PotRevision;
+import com.subdivision.subdivision_prj.dto.PotScrollSort;
+import com.subdivision.subdivision_prj.dto.PotSummaryDto;
 import com.subdivision.subdivision_prj.dto.PotUpdateRequestDto;
-import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
 
-import java.net.URL;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -28,44 +56,108 @@ import java.util.stream.Collectors;
  * 생성, 조회, 수정, 삭제, 참여, 검색 등 팟에 대한 핵심 기능을 담당합니다.
  * @author subdivision
  */
+@Slf4j
 @Service
 public class PotService {
 
     private final PotRepository potRepository;
     private final UserRepository userRepository;
     private final PotMemberRepository potMemberRepository;
-    private final AmazonS3 amazonS3Client; // local 환경에서는 주입되지 않고 null이 될 수 있습니다.
-    private final String bucket;
+    private final PotSummaryRepository potSummaryRepository;
+    private final PotGeoIndex potGeoIndex;
+    private final PotKeywordIndex potKeywordIndex;
+    private final PotRedisGeoIndex potRedisGeoIndex;
+    private final PotSearchCache potSearchCache;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PresignedUrlCache presignedUrlCache;
+    private final PotDetailCache potDetailCache;
+    private final JoinedPotsCache joinedPotsCache;
+
+    // 커서 페이징에서 한 번에 조회할 수 있는 최대 개수
+    private static final int MAX_SCROLL_SIZE = 100;
+    // 일괄 조회(/api/pots/batch)로 한 번에 요청할 수 있는 최대 ID 개수
+    private static final int MAX_BATCH_SIZE = 100;
+    // 전체 목록 스트리밍 시 한 번에 조회하는 페이지 크기
+    private static final int STREAM_PAGE_SIZE = 500;
+    // 검색 결과를 가까운 순으로 정렬할 때 사용하는 정렬 키 (예: /api/pots/search?sort=distance)
+    private static final String DISTANCE_SORT_PROPERTY = "distance";
+    // 같은 사용자가 같은 팟에 두 번 참여하는 것을 막는 유니크 제약의 이름 (PotMember 참고)
+    private static final String DUPLICATE_MEMBERSHIP_CONSTRAINT = "uk_pot_members_pot_user";
 
     /**
      * PotService의 생성자입니다. 의존성 주입(Dependency Injection)을 담당합니다.
-     * @param amazonS3Client @Autowired(required = false)를 통해 S3 기능이 비활성화된 환경(예: local)에서는 null이 주입되어 오류를 방지합니다.
-     * @param bucket @Value 어노테이션을 통해 application.properties에 설정된 S3 버킷 이름을 주입받습니다. 값이 없을 경우 빈 문자열이 주입됩니다.
+     * @param presignedUrlCache 이미지 경로를 Presigned URL로 바꿔주는 캐시 (S3 기능이 비활성화된 환경에서는 경로를 그대로 반환합니다)
+     * @param potDetailCache 팟 상세 정보를 버전별로 보관하는 캐시 (서버 메모리 + Redis)
+     * @param joinedPotsCache 사용자별로 참여한 팟 ID를 보관하는 캐시 (서버 메모리 + Redis)
      */
     public PotService(
             PotRepository potRepository,
             UserRepository userRepository,
             PotMemberRepository potMemberRepository,
-            @Autowired(required = false) AmazonS3 amazonS3Client,
-            @Value("${cloud.aws.s3.bucket:}") String bucket
+            PotSummaryRepository potSummaryRepository,
+            PotGeoIndex potGeoIndex,
+            PotKeywordIndex potKeywordIndex,
+            PotRedisGeoIndex potRedisGeoIndex,
+            PotSearchCache potSearchCache,
+            EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher,
+            PresignedUrlCache presignedUrlCache,
+            PotDetailCache potDetailCache,
+            JoinedPotsCache joinedPotsCache
     ) {
         this.potRepository = potRepository;
         this.userRepository = userRepository;
         this.potMemberRepository = potMemberRepository;
-        this.amazonS3Client = amazonS3Client;
-        this.bucket = bucket;
+        this.potSummaryRepository = potSummaryRepository;
+        this.potGeoIndex = potGeoIndex;
+        this.potKeywordIndex = potKeywordIndex;
+        this.potRedisGeoIndex = potRedisGeoIndex;
+        this.potSearchCache = potSearchCache;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.presignedUrlCache = presignedUrlCache;
+        this.potDetailCache = potDetailCache;
+        this.joinedPotsCache = joinedPotsCache;
     }
 
     /**
      * 인증되지 않은 사용자도 볼 수 있는 전체 팟 목록을 페이징하여 조회합니다.
+     * 목록 API는 Pot 엔티티 대신 조회 모델(pot_summary) 테이블 하나만 읽습니다.
      * @param pageable 페이징 정보 (페이지 번호, 페이지 크기 등)
-     * @return 페이징 처리된 팟 정보 DTO 목록
+     * @param fields 응답에 포함할 필드
+     * @return 페이징 처리된 팟 요약 DTO 목록
      */
     @Transactional(readOnly = true)
-    public Page<PotResponseDto> getAllPotsPublic(Pageable pageable) {
-        Page<Pot> pots = potRepository.findAll(pageable);
-        // 각 Pot 엔티티를 PotResponseDto로 변환하되, 이미지 URL은 Presigned URL로 생성하여 포함시킵니다.
-        return pots.map(this::createPotResponseDtoWithPresignedUrl);
+    public Page<PotSummaryDto> getAllPotsPublic(Pageable pageable, PotFieldSet fields) {
+        Page<PotSummary> pots = potSummaryRepository.findAll(pageable);
+        // 각 요약 정보를 PotSummaryDto로 변환하되, 이미지 URL은 페이지 단위로 한 번에 Presigned URL로 변환하여 포함시킵니다.
+        return new PageImpl<>(createPotSummaryDtos(pots.getContent(), fields), pots.getPageable(), pots.getTotalElements());
+    }
+
+    /**
+     * 인증되지 않은 사용자도 볼 수 있는 전체 팟 목록을 커서(keyset) 방식으로 조회합니다.
+     * OFFSET과 COUNT 쿼리를 사용하지 않으므로, 무한 스크롤로 깊은 페이지를 조회해도 첫 페이지와 비용이 같습니다.
+     * @param cursor 이전 응답의 next 값 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param sort 정렬 기준 (최신순, 가격순)
+     * @param fields 응답에 포함할 필드
+     * @return 팟 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PotSummaryDto> scrollPotsPublic(String cursor, int size, PotScrollSort sort, PotFieldSet fields) {
+        PotCursor after = decodeCursor(cursor, sort);
+        // 한 건을 더 조회하여 다음 페이지가 있는지 판단합니다.
+        Pageable limit = PageRequest.of(0, checkScrollSize(size) + 1);
+
+        if (sort == PotScrollSort.PRICE) {
+            List<PotSummary> pots = after == null
+                    ? potSummaryRepository.findAfterPriceCursor(Integer.MIN_VALUE, Long.MIN_VALUE, limit)
+                    : potSummaryRepository.findAfterPriceCursor((int) after.getSortKey(), after.getPotId(), limit);
+            return toCursorPage(pots, size, fields, pot -> new PotCursor(pot.getPrice(), pot.getId()));
+        }
+        List<PotSummary> pots = potSummaryRepository.findByIdLessThanOrderByIdDesc(after == null ? Long.MAX_VALUE : after.getPotId(), limit);
+        return toCursorPage(pots, size, fields, pot -> new PotCursor(pot.getId(), pot.getId()));
     }
 
     /**
@@ -81,45 +173,177 @@ public class PotService {
 
         Pot newPot = requestDto.toEntity(currentUser);
         Pot savedPot = potRepository.save(newPot);
+        // 조회 모델은 팟과 같은 ID를 사용하므로, merge를 위한 SELECT 없이 바로 INSERT 합니다.
+        entityManager.persist(PotSummary.from(savedPot));
+        eventPublisher.publishEvent(PotChangedEvent.created(PotSnapshot.from(savedPot)));
 
         // 생성된 팟 정보를 DTO로 변환하여 반환합니다. 이 과정에서 이미지 URL이 Presigned URL로 변환됩니다.
         return createPotResponseDtoWithPresignedUrl(savedPot);
     }
 
+    /**
+     * 팟 상세 응답의 ETag와 마지막 수정 시각을 계산합니다. (조건부 GET용)
+     * 팟 엔티티를 로딩하지 않고, 기본 키로 버전과 수정 시각만 조회합니다.
+     * ETag는 (팟 ID, 버전, 이미지 URL 서명 구간, 사용자)로 만듭니다.
+     * - 참여/취소로 인원이 바뀌면 버전이 올라가므로, 참여자 목록과 현재 사용자의 참여 여부의 변화도 버전에 반영됩니다.
+     * - 참여 여부는 사용자마다 다르므로, 같은 버전이라도 사용자마다 다른 ETag를 만듭니다.
+     * - 이미지 URL의 서명 구간이 바뀌면 ETag도 바뀌므로, 304로 재사용한 응답의 이미지 URL이 만료되기 전에 새 응답을 받게 됩니다.
+     * @param potId 조회할 팟의 ID
+     * @param userDetails 현재 인증된 사용자의 정보 (비로그인이면 null)
+     */
+    @Transactional(readOnly = true)
+    public PotRevision getPotRevision(Long potId, UserDetails userDetails) {
+        PotVersion version = potRepository.findVersionById(potId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 팟을 찾을 수 없습니다. ID=" + potId));
+
+        // 사용자 식별값은 이메일을 그대로 노출하지 않도록 해시(SHA-256, 64비트)로 줄여서 사용합니다.
+        String viewer = PotRevision.viewerTag(userDetails == null ? null : userDetails.getUsername());
+        String etag = version.potId() + "-" + version.version() + "-" + presignedUrlCache.currentUrlBucket() + "-" + viewer;
+        long lastModified = version.updatedAt() == null
+                ? -1
+                : version.updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new PotRevision(etag, lastModified, version.version());
+    }
+
     /**
      * 특정 ID를 가진 팟의 상세 정보를 조회합니다.
+     * 사용자와 관계없는 부분은 버전별로 캐시(서버 메모리 → Redis)에서 찾고, 없을 때만 DB에서 한 번의 쿼리로 조회합니다.
      * @param potId 조회할 팟의 ID
+     * @param version getPotRevision으로 확인한 팟의 현재 버전
      * @param userDetails 현재 인증된 사용자의 정보 (참여 여부 확인용)
      * @return 조회된 팟의 상세 정보를 담은 DTO
      */
     @Transactional(readOnly = true)
-    public PotResponseDto getPotById(Long potId, UserDetails userDetails) {
-        Pot pot = potRepository.findById(potId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 팟을 찾을 수 없습니다. ID=" + potId));
+    public PotResponseDto getPotById(Long potId, long version, UserDetails userDetails) {
+        PotDetailSnapshot detail = potDetailCache.get(potId, version, this::loadPotDetail);
 
-        PotResponseDto responseDto = createPotResponseDtoWithPresignedUrl(pot);
+        PotResponseDto responseDto = new PotResponseDto(detail);
+        // 캐시에는 이미지 경로(Key)만 있으므로, 응답할 때마다 (캐시된) Presigned URL로 바꿉니다.
+        if (detail.imageKey() != null && !detail.imageKey().isEmpty()) {
+            responseDto.setImageUrl(presignedUrlCache.getUrl(detail.imageKey()));
+        }
 
-        // 로그인한 사용자의 경우, 해당 팟에 참여했는지 여부를 확인하여 DTO에 설정합니다.
+        // 로그인한 사용자의 경우, 참여자 목록을 로딩하지 않고 (pot_id, user_id) 인덱스로 참여 여부만 확인합니다.
         if(userDetails != null) {
-            User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-            boolean isJoined = pot.getMembers().stream()
-                    .anyMatch(member -> member.getUser().equals(currentUser));
-            responseDto.setCurrentUserJoined(isJoined);
+            responseDto.setCurrentUserJoined(potMemberRepository.existsByPot_IdAndUser_Email(potId, userDetails.getUsername()));
         }
         return responseDto;
     }
 
+    // 상세 캐시에 없을 때 작성자와 참여자를 포함한 팟을 조회하여 스냅샷을 만듭니다.
+    private PotDetailSnapshot loadPotDetail(Long potId) {
+        Pot pot = potRepository.findDetailById(potId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 팟을 찾을 수 없습니다. ID=" + potId));
+        return PotDetailSnapshot.from(pot);
+    }
+
+    /**
+     * 여러 팟의 상세 정보를 한 번에 조회합니다. (채팅 목록, 알림처럼 여러 팟을 연달아 여는 화면용)
+     * 버전 조회와 캐시에 없는 팟의 조회를 각각 IN 쿼리 한 번으로 처리하고, 이미지 URL도 한 번에 서명합니다.
+     * @param potIds 조회할 팟 ID 목록 (중복 가능)
+     * @param userDetails 현재 인증된 사용자의 정보 (참여 여부 확인용)
+     * @return 요청한 순서대로의 결과 목록 (없는 팟은 found=false 항목)
+     */
+    @Transactional(readOnly = true)
+    public List<PotBatchItemDto> getPotsByIds(List<Long> potIds, UserDetails userDetails) {
+        if (potIds == null || potIds.isEmpty()) {
+            return List.of();
+        }
+        if (potIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 팟은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        if (potIds.contains(null)) {
+            throw new IllegalArgumentException("팟 ID가 비어 있습니다.");
+        }
+
+        // 1. 존재하는 팟의 현재 버전을 한 번에 조회하고, 버전이 같은 상세 스냅샷은 캐시에서 가져옵니다.
+        Set<Long> distinctIds = new HashSet<>(potIds);
+        Map<Long, Long> versions = potRepository.findVersionsByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(PotVersion::potId, PotVersion::version));
+        Map<Long, PotDetailSnapshot> details = potDetailCache.getAll(versions, this::loadPotDetails);
+
+        // 2. 이미지 경로를 모아 Presigned URL로 한 번에 변환합니다.
+        List<String> imageKeys = details.values().stream()
+                .map(PotDetailSnapshot::imageKey)
+                .filter(key -> key != null && !key.isEmpty())
+                .distinct()
+                .toList();
+        Map<String, String> imageUrls = imageKeys.isEmpty() ? Map.of() : presignedUrlCache.getUrls(imageKeys);
+
+        // 3. 로그인한 사용자라면 참여한 팟 ID 캐시(정렬된 배열)를 가져옵니다.
+        long[] joinedPotIds = userDetails == null ? null : joinedPotsCache.get(userDetails.getUsername());
+
+        // 4. 요청한 순서대로 결과를 만들고, 없는 팟은 not found 항목으로 표시합니다.
+        List<PotBatchItemDto> items = new ArrayList<>(potIds.size());
+        for (Long potId : potIds) {
+            PotDetailSnapshot detail = details.get(potId);
+            if (detail == null) {
+                items.add(PotBatchItemDto.notFound(potId));
+                continue;
+            }
+            PotResponseDto responseDto = new PotResponseDto(detail);
+            if (detail.imageKey() != null && !detail.imageKey().isEmpty()) {
+                responseDto.setImageUrl(imageUrls.get(detail.imageKey()));
+            }
+            responseDto.setCurrentUserJoined(joinedPotIds != null && JoinedPotsCache.contains(joinedPotIds, potId));
+            items.add(PotBatchItemDto.found(responseDto));
+        }
+        return items;
+    }
+
+    // 상세 캐시에 없는 팟들을 작성자, 참여자와 함께 한 번의 쿼리로 조회하여 스냅샷을 만듭니다.
+    private List<PotDetailSnapshot> loadPotDetails(Collection<Long> potIds) {
+        return potRepository.findDetailsByIdIn(potIds).stream()
+                .map(PotDetailSnapshot::from)
+                .toList();
+    }
+
     /**
      * 페이징 없이 모든 팟 목록을 조회합니다.
-     * @return 모든 팟의 정보를 담은 DTO 리스트
+     * @param fields 응답에 포함할 필드
+     * @return 모든 팟의 요약 정보를 담은 DTO 리스트
      */
     @Transactional(readOnly = true)
-    public List<PotResponseDto> getAllPots() {
-        return potRepository.findAll().stream()
-                .map(this::createPotResponseDtoWithPresignedUrl)
-                .collect(Collectors.toList());
+    public List<PotSummaryDto> getAllPots(PotFieldSet fields) {
+        return createPotSummaryDtos(potSummaryRepository.findAll(), fields);
+    }
+
+    /**
+     * 모든 팟의 요약 정보를 DTO로 변환하여 한 건씩 consumer에게 전달합니다. (목록으로 모으지 않습니다)
+     * ID 순서의 키셋 페이지(STREAM_PAGE_SIZE건)로 나누어 읽으므로, 전체 팟 수와 관계없이 메모리 사용량이 일정합니다.
+     * [핵심] 페이지마다 EntityManager를 새로 열고 닫으므로, DB 커넥션은 한 페이지를 읽는 동안에만 사용합니다.
+     * 느린 클라이언트에게 응답을 쓰는 동안에는 커넥션도 트랜잭션도 잡고 있지 않고, 전달한 엔티티가 영속성 컨텍스트에 쌓이지도 않습니다.
+     * @param fields 응답에 포함할 필드
+     * @param consumer 변환된 DTO를 받아 처리(응답에 쓰기 등)하는 함수
+     */
+    public void streamAllPots(PotFieldSet fields, Consumer<PotSummaryDto> consumer) {
+        long afterId = 0;
+        while (true) {
+            List<PotSummary> page = findSummaryPageAfter(afterId);
+            createPotSummaryDtos(page, fields).forEach(consumer);
+            if (page.size() < STREAM_PAGE_SIZE) {
+                return;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 팟 ID가 afterId보다 큰 요약 정보를 ID 순서로 한 페이지 조회합니다.
+     * 요청 단위 EntityManager(OSIV)는 응답이 끝날 때까지 커넥션을 잡고 있으므로, 이 페이지만을 위한 EntityManager를 사용하고 바로 닫습니다.
+     */
+    private List<PotSummary> findSummaryPageAfter(long afterId) {
+        EntityManager pageEntityManager = entityManager.getEntityManagerFactory().createEntityManager();
+        try {
+            return pageEntityManager
+                    .createQuery("SELECT s FROM PotSummary s WHERE s.id > :afterId ORDER BY s.id", PotSummary.class)
+                    .setParameter("afterId", afterId)
+                    .setMaxResults(STREAM_PAGE_SIZE)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+        } finally {
+            pageEntityManager.close();
+        }
     }
 
     /**
@@ -134,6 +358,7 @@ public class PotService {
     public PotResponseDto updatePot(Long potId, PotUpdateRequestDto requestDto, UserDetails userDetails) {
         // 1. 수정하려는 팟을 DB에서 찾고, 현재 로그인한 사용자가 작성자인지 확인합니다.
         Pot pot = findPotAndCheckOwnership(potId, userDetails.getUsername());
+        PotSnapshot previous = PotSnapshot.from(pot);
 
         // 2. [핵심 로직] 프론트엔드에서 받은 imageUrl이 무엇인지 판별합니다.
         String newImageUrl = requestDto.getImageUrl();
@@ -145,6 +370,8 @@ public class PotService {
 
         // 3. Pot 엔티티의 update 메서드를 호출할 때, 이미지 변경 여부를 함께 전달합니다.
         pot.update(requestDto, isNewImageUploaded);
+        syncSummary(pot);
+        eventPublisher.publishEvent(PotChangedEvent.updated(previous, PotSnapshot.from(pot)));
 
         // 4. 수정된 정보를 다시 DTO로 변환하여 반환합니다.
         return createPotResponseDtoWithPresignedUrl(pot);
@@ -158,7 +385,11 @@ public class PotService {
     @Transactional
     public void deletePot(Long potId, UserDetails userDetails) {
         Pot pot = findPotAndCheckOwnership(potId, userDetails.getUsername());
+        PotSnapshot previous = PotSnapshot.from(pot);
+        // pot_summary가 pots를 외래 키로 참조하므로 요약 정보를 먼저 삭제합니다.
+        potSummaryRepository.deleteById(potId);
         potRepository.delete(pot);
+        eventPublisher.publishEvent(PotChangedEvent.deleted(previous));
     }
 
     /**
@@ -175,100 +406,556 @@ public class PotService {
         return pot;
     }
 
+    /**
+     * 조회 모델(pot_summary)을 pots 테이블과 맞춥니다.
+     * (사라진 팟의 요약은 삭제하고, 인원/상태가 어긋난 요약은 다시 복사하고, 없는 팟의 요약은 채워 넣습니다)
+     * 서버가 시작될 때 요약이 빠졌거나 어긋난 팟이 있다면 PotSummaryInitializer가 호출하고, 관리자 API로도 실행할 수 있습니다.
+     * @return 삭제, 갱신하거나 채워 넣은 행 수
+     */
+    @Transactional
+    public int rebuildSummaries() {
+        return potSummaryRepository.deleteOrphans()
+                + potSummaryRepository.resyncHeadcounts()
+                + potSummaryRepository.backfillMissing();
+    }
+
+    /**
+     * 변경된 팟의 조회 모델(pot_summary)을 같은 트랜잭션 안에서 갱신합니다. (없다면 새로 만듭니다)
+     */
+    private void syncSummary(Pot pot) {
+        potSummaryRepository.findById(pot.getId()).ifPresentOrElse(
+                summary -> summary.sync(pot),
+                () -> entityManager.persist(PotSummary.from(pot)));
+    }
+
     /**
      * 현재 사용자가 특정 팟에 참여합니다.
+     * 인원 확인과 증가를 조건부 UPDATE 한 문장으로 처리하므로, 같은 팟에 동시에 참여해도 인원이 최대치를 넘지 않습니다.
+     * 팟 행의 잠금은 UPDATE부터 커밋까지만 유지되며, 충돌한 요청을 재시도할 필요가 없습니다.
      */
     @Transactional
     public void joinPot(Long potId, UserDetails userDetails) {
         User currentUser = userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Pot pot = potRepository.findById(potId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 팟을 찾을 수 없습니다."));
 
-        // 이미 참여했는지 확인하여 중복 참여를 방지합니다.
-        potMemberRepository.findByPotAndUser(pot, currentUser).ifPresent(m -> {
+        // 1. 이미 참여했다면 팟 행을 잠그기 전에 거절합니다. (동시에 들어온 중복 참여는 3번의 유니크 제약이 막습니다)
+        if (potMemberRepository.existsByPot_IdAndUser_Email(potId, currentUser.getEmail())) {
             throw new IllegalArgumentException("이미 참여한 팟입니다.");
-        });
+        }
 
-        // Pot 엔티티 내부 로직을 통해 참여자 수를 늘리고, 상태를 변경합니다.
-        pot.addParticipant();
+        // 2. [핵심] 자리가 남아 있을 때만 인원을 늘립니다. 바뀐 행이 없다면 팟이 없거나 가득 찬 것입니다.
+        if (potRepository.incrementHeadcount(potId, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException(potRepository.existsById(potId)
+                    ? "모집 인원이 마감되었습니다."
+                    : "해당 ID의 팟을 찾을 수 없습니다.");
+        }
 
-        // PotMember 테이블에 참여 관계를 기록합니다.
-        PotMember potMember = PotMember.builder()
-                .pot(pot)
-                .user(currentUser)
-                .build();
-        potMemberRepository.save(potMember);
+        // 3. PotMember 테이블에 참여 관계를 기록합니다. (pot_id, user_id) 유니크 제약을 위반하면 인원 증가까지 함께 롤백됩니다.
+        //    팟 행을 먼저 잠근 뒤 기록하므로, 참여/취소가 항상 같은 순서로 잠금을 얻어 교착 상태가 생기지 않습니다.
+        try {
+            potMemberRepository.saveAndFlush(PotMember.builder()
+                    .pot(potRepository.getReferenceById(potId))
+                    .user(currentUser)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 위반처럼 다른 제약 위반은 중복 참여가 아니므로 그대로 전달합니다.
+            if (!isDuplicateMembership(e)) {
+                throw e;
+            }
+            throw new IllegalArgumentException("이미 참여한 팟입니다.");
+        }
+
+        // 4. 바뀐 인원과 상태를 조회 모델과 검색 인덱스, 캐시에 반영합니다.
+        publishMembershipChange(potId, -1);
+        eventPublisher.publishEvent(PotMemberChangedEvent.joined(potId, currentUser.getEmail()));
     }
 
     /**
      * 현재 사용자가 참여했던 팟에서 나갑니다.
+     * 참여와 마찬가지로 인원 감소를 조건부 UPDATE로 처리합니다.
      */
     @Transactional
     public void leavePot(Long potId, UserDetails userDetails) {
         User currentUser = userRepository.findByEmail(userDetails.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Pot pot = potRepository.findById(potId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 팟을 찾을 수 없습니다."));
 
-        PotMember potMember = potMemberRepository.findByPotAndUser(pot, currentUser)
-                .orElseThrow(() -> new IllegalArgumentException("이 팟의 멤버가 아닙니다."));
+        // 1. 참여하지 않은 팟이라면 팟 행을 잠그기 전에 거절합니다.
+        if (!potMemberRepository.existsByPot_IdAndUser_Email(potId, currentUser.getEmail())) {
+            throw new IllegalArgumentException(potRepository.existsById(potId)
+                    ? "이 팟의 멤버가 아닙니다."
+                    : "해당 ID의 팟을 찾을 수 없습니다.");
+        }
+
+        // 2. [핵심] 작성자 외의 참여자가 있을 때만 인원을 줄입니다.
+        if (potRepository.decrementHeadcount(potId, LocalDateTime.now()) == 0) {
+            // 참여 기록이 이미 없다면 같은 사용자의 다른 요청이 먼저 나간 것입니다. (삭제는 항상 최신 커밋 기준으로 확인합니다)
+            if (potMemberRepository.deleteByPotIdAndUserId(potId, currentUser.getId()) == 0) {
+                throw new IllegalArgumentException("이 팟의 멤버가 아닙니다.");
+            }
+            // 참여 기록은 있는데 작성자 외의 인원이 없다면 데이터가 어긋난 것이므로, 삭제를 롤백하고 알립니다.
+            log.error("팟의 참여 인원과 참여 기록이 일치하지 않습니다. potId={}, userId={}", potId, currentUser.getId());
+            throw new IllegalStateException("팟의 참여 인원과 참여 기록이 일치하지 않습니다.");
+        }
+
+        // 3. 참여 기록을 삭제합니다. 그 사이 다른 요청이 먼저 삭제했다면 인원 감소까지 함께 롤백합니다.
+        if (potMemberRepository.deleteByPotIdAndUserId(potId, currentUser.getId()) == 0) {
+            throw new IllegalArgumentException("이 팟의 멤버가 아닙니다.");
+        }
+
+        // 4. 바뀐 인원과 상태를 조회 모델과 검색 인덱스, 캐시에 반영합니다.
+        publishMembershipChange(potId, 1);
+        eventPublisher.publishEvent(PotMemberChangedEvent.left(potId, currentUser.getEmail()));
+    }
+
+    // 조건부 UPDATE로 바뀐 인원과 상태를 같은 트랜잭션 안에서 조회 모델(pot_summary)에 복사하고 팟 변경 이벤트를 발행합니다.
+    // 복사는 기본 키 UPDATE 한 문장, 스냅샷은 생성자 표현식 조회 한 번이므로 팟 행의 잠금을 거의 늘리지 않습니다.
+    // 조회 모델과 팟이 함께 커밋(또는 롤백)되므로, 커밋 이후의 작업이 실패해 조회 모델만 어긋나는 일이 없습니다.
+    private void publishMembershipChange(Long potId, int previousHeadcountDelta) {
+        if (potSummaryRepository.copyHeadcountFromPot(potId) == 0) {
+            potRepository.findById(potId).ifPresent(this::syncSummary);
+        }
+        for (PotSnapshot current : potRepository.findSnapshotsByIdIn(List.of(potId))) {
+            eventPublisher.publishEvent(PotChangedEvent.membership(current.withHeadcountDelta(previousHeadcountDelta), current));
+        }
+    }
 
-        pot.removeParticipant();
-        potMemberRepository.delete(potMember);
+    // (pot_id, user_id) 유니크 제약(uk_pot_members_pot_user) 위반인지 확인합니다.
+    private static boolean isDuplicateMembership(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(DUPLICATE_MEMBERSHIP_CONSTRAINT);
+    }
+
+    /**
+     * 위치 기반으로 반경 내의 모집중인 팟 목록을 가까운 순서대로 조회합니다.
+     * Redis GEO 집합(모집중인 팟만 보관)을 사용할 수 있다면 Redis에서 찾고 (GEOSEARCH),
+     * 그렇지 않다면 MySQL의 SPATIAL INDEX를 사용하여 DB 안에서 같은 상태 조건으로 거리 필터링을 수행합니다.
+     * (Redis 상태에 따라 응답이 달라지지 않도록 두 경로 모두 모집중인 팟만 반환합니다)
+     * @param lon 중심점의 경도
+     * @param lat 중심점의 위도
+     * @param distance 검색 반경(km)
+     * @param fields 응답에 포함할 필드
+     * @return 반경 내 팟의 DTO 리스트 (가까운 순)
+     */
+    @Transactional(readOnly = true)
+    public List<PotSummaryDto> findPotsByLocation(Double lon, Double lat, Double distance, PotFieldSet fields) {
+        Optional<List<PotRedisGeoIndex.GeoHit>> hits = potRedisGeoIndex.findWithin(lat, lon, distance, null);
+        if (hits.isPresent()) {
+            return toGeoHitSummaryDtos(hits.get(), fields);
+        }
+
+        String boundingBox = GeoBoundingBox.around(lat, lon, distance).toWkt();
+        List<Long> ids = potRepository.findPotIdsByLocation(boundingBox, lon, lat, distance, PotStatus.RECRUITING.name());
+        // Redis 경로와 같은 응답이 되도록 거리도 채웁니다. (DB는 ID만 반환하므로 같은 하버사인 식으로 다시 계산합니다)
+        GeoDistanceKernel kernel = GeoDistanceKernel.around(lat, lon, distance);
+        return createPotSummaryDtos(findAllByIdsInOrder(ids), fields,
+                pot -> kernel.distanceKm(pot.getLatitude(), pot.getLongitude()));
     }
 
     /**
      * 다양한 조건(키워드, 카테고리, 상태, 거리)을 조합하여 팟을 동적으로 검색하고 페이징하여 반환합니다.
+     * 공간 인덱스(PotGeoIndex)가 준비되어 있다면 반경 내 후보를 메모리에서 찾고, 최종 페이지의 팟만 조회 모델(pot_summary)에서 조회합니다.
+     * 페이징 정보에 sort=distance가 있다면 중심점에서 가까운 순으로 정렬합니다.
      */
     @Transactional(readOnly = true)
-    public Page<PotResponseDto> searchPots(Double lat, Double lon, Double distance, String keyword,
-                                           PotCategory category, PotStatus status, Pageable pageable) {
-        // Specification을 사용하여 키워드, 카테고리, 상태에 대한 동적 쿼리를 생성합니다.
-        Specification<Pot> spec = Specification.where(null);
-        if(keyword != null && !keyword.trim().isEmpty()) {
-            spec = spec.and(PotSpecification.likeKeyword(keyword));
+    public Page<PotSummaryDto> searchPots(Double lat, Double lon, Double distance, String keyword,
+                                          PotCategory category, PotStatus status, Pageable pageable, PotFieldSet fields) {
+        boolean sortByDistance = pageable.getSort().getOrderFor(DISTANCE_SORT_PROPERTY) != null;
+
+        // 모집중인 팟을 가까운 순으로 찾는다면, 모든 서버가 공유하는 Redis GEO 집합에서 정렬까지 끝난 결과를 받습니다.
+        if (sortByDistance && status == PotStatus.RECRUITING) {
+            Optional<List<PotRedisGeoIndex.GeoHit>> hits = potRedisGeoIndex.findWithin(lat, lon, distance, category);
+            if (hits.isPresent()) {
+                List<PotRedisGeoIndex.GeoHit> matchedHits = retainKeywordMatches(hits.get(), keyword, category, status);
+                int start = (int) Math.min(pageable.getOffset(), matchedHits.size());
+                int end = Math.min((start + pageable.getPageSize()), matchedHits.size());
+                return new PageImpl<>(toGeoHitSummaryDtos(matchedHits.subList(start, end), fields), pageable, matchedHits.size());
+            }
         }
-        if(category != null) {
-            spec = spec.and(PotSpecification.equalCategory(category));
+
+        // 애플리케이션 기동 직후처럼 인덱스가 아직 구축되지 않았다면 DB 기반 검색을 사용합니다.
+        if (!potGeoIndex.isReady()) {
+            return searchPotsFromDatabase(lat, lon, distance, keyword, category, status, pageable, sortByDistance, fields);
         }
-        if(status != null) {
-            spec = spec.and(PotSpecification.equalStatus(status));
+
+        List<Long> matchedIds = findMatchingIds(lat, lon, distance, keyword, category, status);
+
+        if (sortByDistance) {
+            // 공간 인덱스의 좌표로 거리를 한 번만 계산하여 가까운 순으로 페이지를 구성합니다.
+            GeoDistanceKernel kernel = GeoDistanceKernel.around(lat, lon, distance);
+            long[] ids = new long[matchedIds.size()];
+            double[] distances = new double[matchedIds.size()];
+            int count = 0;
+            for (Long id : matchedIds) {
+                PotSnapshot snapshot = potGeoIndex.get(id);
+                if (snapshot != null) {
+                    ids[count] = id;
+                    distances[count++] = kernel.distanceKm(snapshot.getLatitude(), snapshot.getLongitude());
+                }
+            }
+            int[] page = selectNearestPage(Arrays.copyOf(distances, count), Arrays.copyOf(ids, count), pageable);
+            List<Long> pageIds = new ArrayList<>(page.length);
+            Map<Long, Double> distanceById = new HashMap<>();
+            for (int index : page) {
+                pageIds.add(ids[index]);
+                distanceById.put(ids[index], distances[index]);
+            }
+            return new PageImpl<>(
+                    createPotSummaryDtos(findAllByIdsInOrder(pageIds), fields, pot -> distanceById.get(pot.getId())),
+                    pageable,
+                    count
+            );
+        }
+
+        // 최종 페이지에 해당하는 ID만 잘라낸 뒤, 그 팟들만 DB에서 조회합니다.
+        int start = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int end = Math.min((start + pageable.getPageSize()), matchedIds.size());
+        List<PotSummary> pageContent = findAllByIdsInOrder(matchedIds.subList(start, end));
+        GeoDistanceKernel kernel = GeoDistanceKernel.around(lat, lon, distance);
+
+        return new PageImpl<>(
+                createPotSummaryDtos(pageContent, fields, pot -> kernel.distanceKm(pot.getLatitude(), pot.getLongitude())),
+                pageable,
+                matchedIds.size()
+        );
+    }
+
+    /**
+     * 위치 기반 검색 결과를 카테고리별, 상태별로 센 개수를 반환합니다.
+     * 카테고리마다 검색 API를 따로 호출하지 않도록, 반경과 키워드에 맞는 후보를 한 번만 훑으면서 모든 개수를 함께 셉니다.
+     * 후보 목록은 검색 캐시(PotSearchCache)를 통해 같은 지역의 검색과 공유됩니다.
+     */
+    @Transactional(readOnly = true)
+    public PotFacetResponseDto countPotFacets(Double lat, Double lon, Double distance, String keyword,
+                                              PotCategory category, PotStatus status) {
+        long[] categoryCounts = new long[PotCategory.values().length];
+        long[] statusCounts = new long[PotStatus.values().length];
+        long total = 0;
+
+        if (potGeoIndex.isReady()) {
+            // 카테고리/상태 조건 없이 후보를 구한 뒤, 스냅샷의 카테고리와 상태로 개수를 셉니다.
+            for (Long id : findMatchingIds(lat, lon, distance, keyword, null, null)) {
+                PotSnapshot snapshot = potGeoIndex.get(id);
+                if (snapshot != null) {
+                    total += countFacet(snapshot.getCategory(), snapshot.getStatus(), category, status, categoryCounts, statusCounts);
+                }
+            }
+        } else {
+            // 인덱스가 준비되지 않았다면 DB에서 사각형 안의 후보를 조회하여 정확한 거리로 걸러낸 뒤 셉니다.
+            GeoDistanceKernel kernel = GeoDistanceKernel.around(lat, lon, distance);
+            List<Long> keywordIds = findKeywordIds(keyword);
+            for (PotSummary pot : potSummaryRepository.findAll(buildSearchSpecification(lat, lon, distance, keywordIds, null, null))) {
+                if (kernel.contains(pot.getLatitude(), pot.getLongitude())) {
+                    total += countFacet(pot.getCategory(), pot.getStatus(), category, status, categoryCounts, statusCounts);
+                }
+            }
+        }
+        return new PotFacetResponseDto(total, categoryCounts, statusCounts);
+    }
+
+    /**
+     * 팟 하나를 카테고리별, 상태별 개수에 반영합니다.
+     * 카테고리별 개수에는 상태 조건만, 상태별 개수에는 카테고리 조건만 적용합니다.
+     * @return 모든 조건에 맞는 팟이라면 1, 아니라면 0
+     */
+    private int countFacet(PotCategory potCategory, PotStatus potStatus, PotCategory category, PotStatus status,
+                           long[] categoryCounts, long[] statusCounts) {
+        boolean categoryMatches = category == null || potCategory == category;
+        boolean statusMatches = status == null || potStatus == status;
+        if (statusMatches) {
+            categoryCounts[potCategory.ordinal()]++;
+        }
+        if (categoryMatches) {
+            statusCounts[potStatus.ordinal()]++;
+        }
+        return categoryMatches && statusMatches ? 1 : 0;
+    }
+
+    /**
+     * 공간 인덱스와 키워드 조건으로 검색 조건에 맞는 팟 ID 목록을 구합니다. (엔티티는 로딩하지 않습니다)
+     * 키워드를 DB FULLTEXT로 찾은 경우에는 관련도 순, 그 외에는 ID 오름차순입니다.
+     * 셀 단위 검색 캐시(PotSearchCache)에서 후보를 꺼낸 뒤, 요청 좌표 기준의 정확한 거리로 다시 걸러냅니다.
+     */
+    private List<Long> findMatchingIds(Double lat, Double lon, Double distance, String keyword,
+                                       PotCategory category, PotStatus status) {
+        PotSearchCache.Key key = PotSearchCache.Key.of(lat, lon, distance, keyword, category, status);
+        long[] candidateIds = potSearchCache.get(key, k -> searchMatchingIds(
+                k.centerLatitude(), k.centerLongitude(), k.coverRadiusKm(), keyword, category, status)
+                .stream().mapToLong(Long::longValue).toArray());
+
+        GeoDistanceKernel kernel = GeoDistanceKernel.around(lat, lon, distance);
+        List<Long> matchedIds = new ArrayList<>();
+        for (long id : candidateIds) {
+            PotSnapshot snapshot = potGeoIndex.get(id);
+            if (snapshot != null && kernel.contains(snapshot.getLatitude(), snapshot.getLongitude())) {
+                matchedIds.add(id);
+            }
+        }
+        return matchedIds;
+    }
+
+    /**
+     * 캐시를 거치지 않고 공간 인덱스와 키워드 조건으로 검색 조건에 맞는 팟 ID 목록을 구합니다.
+     */
+    private List<Long> searchMatchingIds(double lat, double lon, double distance, String keyword,
+                                         PotCategory category, PotStatus status) {
+        // 1. 공간 인덱스에서 반경 내의 팟 스냅샷을 조회합니다. (반경과 겹치는 셀만 방문)
+        List<PotSnapshot> nearbyPots = potGeoIndex.findWithin(lat, lon, distance);
+
+        // 2. 카테고리, 상태 조건을 메모리에서 적용합니다.
+        List<Long> matchedIds = nearbyPots.stream()
+                .filter(pot -> category == null || pot.getCategory() == category)
+                .filter(pot -> status == null || pot.getStatus() == status)
+                .map(PotSnapshot::getId)
+                .toList();
+
+        // 3. 키워드가 있다면 키워드에 맞는 팟과 반경 내 후보의 교집합을 구합니다.
+        if(keyword != null && !keyword.trim().isEmpty() && potKeywordIndex.isReady()) {
+            // 3-1. 메모리 역색인이 준비되어 있다면 SQL 없이 게시 목록과 카테고리/상태 BitSet의 교집합으로 찾습니다.
+            BitSet keywordIds = potKeywordIndex.search(keyword, category, status);
+            matchedIds = matchedIds.stream()
+                    .filter(id -> keywordIds.get(Math.toIntExact(id)))
+                    .toList();
+        } else if(keyword != null && !keyword.trim().isEmpty()) {
+            // 3-2. 그렇지 않다면 DB에서 키워드에 맞는 팟의 ID만 관련도 순으로 조회합니다.
+            Set<Long> nearbyIds = new HashSet<>(matchedIds);
+            matchedIds = findIdsByKeyword(keyword).stream()
+                    .filter(nearbyIds::contains)
+                    .toList();
         }
 
-        // 1차적으로 DB에서 조건에 맞는 데이터를 모두 조회합니다.
-        List<Pot> filteredPots = potRepository.findAll(spec);
+        return matchedIds;
+    }
+
+    /**
+     * 검색 조건에 맞는 팟을 커서(keyset) 방식으로 최신순 조회합니다.
+     * 전체 개수를 세지 않고, 커서 이후의 ID만 잘라 최종 페이지의 팟만 DB에서 조회합니다.
+     * @param cursor 이전 응답의 next 값 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param fields 응답에 포함할 필드
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PotSummaryDto> scrollSearchPots(Double lat, Double lon, Double distance, String keyword,
+                                                                 PotCategory category, PotStatus status,
+                                                                 String cursor, int size, PotFieldSet fields) {
+        PotCursor after = decodeCursor(cursor, PotScrollSort.LATEST);
+        long afterId = after == null ? Long.MAX_VALUE : after.getPotId();
+        checkScrollSize(size);
+
+        if (!potGeoIndex.isReady()) {
+            // 인덱스가 준비되지 않았다면 DB에서 커서 이후의 행을 최신순으로 (페이지 크기 + 1)건만 읽습니다.
+            // 정확한 거리 필터는 읽은 뒤에 적용하므로 한 페이지가 size보다 적을 수 있지만, 커서는 마지막으로 읽은 행을 가리킵니다.
+            Specification<PotSummary> spec = buildSearchSpecification(lat, lon, distance, findKeywordIds(keyword), category, status)
+                    .and(PotSpecification.idLessThan(afterId));
+            List<PotSummary> rows = potSummaryRepository.findBy(spec, query -> query
+                    .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                    .limit(size + 1)
+                    .all());
+            boolean hasNext = rows.size() > size;
+            List<PotSummary> scanned = hasNext ? rows.subList(0, size) : rows;
+            GeoDistanceKernel kernel = GeoDistanceKernel.around(lat, lon, distance);
+            List<PotSummaryDto> content = createPotSummaryDtos(scanned.stream()
+                    .filter(pot -> kernel.contains(pot.getLatitude(), pot.getLongitude()))
+                    .toList(), fields);
+            PotSummary last = scanned.isEmpty() ? null : scanned.get(scanned.size() - 1);
+            return new CursorPageResponseDto<>(content,
+                    hasNext ? new PotCursor(last.getId(), last.getId()).encode() : null);
+        }
 
-        // 2차적으로 메모리에서 Haversine 공식을 사용하여 거리 기반 필터링을 수행합니다.
-        List<Pot> nearbyPots = filteredPots.stream()
-                .filter(pot -> isWithinDistance(lat, lon, pot.getLatitude(), pot.getLongitude(), distance))
+        List<Long> pageIds = findMatchingIds(lat, lon, distance, keyword, category, status).stream()
+                .filter(id -> id < afterId)
+                .sorted(Comparator.reverseOrder())
+                .limit(size + 1L)
                 .toList();
+        return toCursorPage(findAllByIdsInOrder(pageIds), size, fields, pot -> new PotCursor(pot.getId(), pot.getId()));
+    }
+
+    /**
+     * 공간 인덱스를 사용할 수 없을 때의 DB 기반 검색입니다.
+     * 조건에 맞는 팟을 조회 모델(pot_summary)에서 모두 조회한 뒤 메모리에서 거리 필터링과 페이징을 수행합니다.
+     * 키워드는 pots 테이블의 FULLTEXT 인덱스로 ID만 찾고, 그 순서(관련도 순)를 결과 순서로 사용합니다.
+     */
+    private Page<PotSummaryDto> searchPotsFromDatabase(Double lat, Double lon, Double distance, String keyword,
+                                                       PotCategory category, PotStatus status, Pageable pageable,
+                                                       boolean sortByDistance, PotFieldSet fields) {
+        List<Long> keywordIds = findKeywordIds(keyword);
+        Specification<PotSummary> spec = buildSearchSpecification(lat, lon, distance, keywordIds, category, status);
+
+        // 1차적으로 DB에서 사각형 안에 있으면서 조건에 맞는 데이터를 조회합니다.
+        List<PotSummary> filteredPots = new ArrayList<>(potSummaryRepository.findAll(spec));
+        if (keywordIds != null) {
+            Map<Long, Integer> rankById = new HashMap<>();
+            for (int i = 0; i < keywordIds.size(); i++) {
+                rankById.putIfAbsent(keywordIds.get(i), i);
+            }
+            filteredPots.sort(Comparator.comparing(pot -> rankById.get(pot.getId())));
+        }
+
+        // 2차적으로 메모리에서 거리 기반 필터링을 수행합니다.
+        // 엔티티의 좌표를 double 배열로 한 번만 꺼낸 뒤, 거리 커널로 반경 안의 위치만 골라냅니다.
+        double[] lats = new double[filteredPots.size()];
+        double[] lons = new double[filteredPots.size()];
+        for (int i = 0; i < filteredPots.size(); i++) {
+            lats[i] = filteredPots.get(i).getLatitude();
+            lons[i] = filteredPots.get(i).getLongitude();
+        }
+        GeoDistanceKernel kernel = GeoDistanceKernel.around(lat, lon, distance);
+        int[] selected = new int[filteredPots.size()];
+        int selectedCount = kernel.select(lats, lons, selected);
+
+        // 반경 안의 팟에 대해서만 실제 거리를 계산합니다.
+        List<PotSummary> nearbyPots = new ArrayList<>(selectedCount);
+        double[] distances = new double[selectedCount];
+        for (int i = 0; i < selectedCount; i++) {
+            distances[i] = kernel.distanceKm(lats[selected[i]], lons[selected[i]]);
+            nearbyPots.add(filteredPots.get(selected[i]));
+        }
 
         // 거리까지 필터링된 최종 목록을 수동으로 페이징 처리합니다.
-        int start = (int)pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), nearbyPots.size());
-        List<Pot> pageContent = nearbyPots.subList(start, end);
+        List<Integer> pageIndexes = new ArrayList<>();
+        if (sortByDistance) {
+            long[] ids = nearbyPots.stream().mapToLong(PotSummary::getId).toArray();
+            for (int index : selectNearestPage(Arrays.copyOf(distances, ids.length), ids, pageable)) {
+                pageIndexes.add(index);
+            }
+        } else {
+            int start = (int) Math.min(pageable.getOffset(), nearbyPots.size());
+            int end = Math.min((start + pageable.getPageSize()), nearbyPots.size());
+            for (int index = start; index < end; index++) {
+                pageIndexes.add(index);
+            }
+        }
 
         // 최종 결과를 Page 객체로 만들어 반환합니다.
+        Map<Long, Double> distanceById = new HashMap<>();
+        pageIndexes.forEach(index -> distanceById.put(nearbyPots.get(index).getId(), distances[index]));
         return new PageImpl<>(
-                pageContent.stream().map(this::createPotResponseDtoWithPresignedUrl).collect(Collectors.toList()),
+                createPotSummaryDtos(pageIndexes.stream().map(nearbyPots::get).toList(), fields,
+                        pot -> distanceById.get(pot.getId())),
                 pageable,
                 nearbyPots.size()
         );
     }
 
     /**
-     * 두 지점 간의 거리를 계산하는 Haversine 공식 헬퍼 메서드입니다.
+     * 가까운 순으로 정렬했을 때 요청한 페이지에 해당하는 후보의 배열 위치를 반환합니다.
+     * [핵심] 전체 후보를 정렬하지 않고, 요청한 페이지의 끝(offset + size)까지만 힙으로 골라냅니다.
+     */
+    private int[] selectNearestPage(double[] distances, long[] ids, Pageable pageable) {
+        if (pageable.getOffset() >= distances.length) {
+            return new int[0];
+        }
+        int k = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), distances.length);
+        int[] nearest = NearestSelector.selectNearest(distances, ids, k);
+        return Arrays.copyOfRange(nearest, (int) pageable.getOffset(), nearest.length);
+    }
+
+    /**
+     * Redis GEO 검색 결과 중 키워드에 맞는 팟만 남깁니다. (Redis가 정렬한 거리 순서는 그대로 유지합니다)
+     */
+    private List<PotRedisGeoIndex.GeoHit> retainKeywordMatches(List<PotRedisGeoIndex.GeoHit> hits, String keyword,
+                                                               PotCategory category, PotStatus status) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return hits;
+        }
+        if (potKeywordIndex.isReady()) {
+            BitSet keywordIds = potKeywordIndex.search(keyword, category, status);
+            return hits.stream().filter(hit -> keywordIds.get(Math.toIntExact(hit.potId()))).toList();
+        }
+        Set<Long> keywordIds = new HashSet<>(findIdsByKeyword(keyword));
+        return hits.stream().filter(hit -> keywordIds.contains(hit.potId())).toList();
+    }
+
+    /**
+     * Redis GEO 검색 결과의 팟들을 조회 모델에서 조회하여, 거리 순서와 거리를 유지한 DTO 목록으로 변환합니다.
+     * Redis에 반영된 뒤 DB에서 삭제된 팟은 결과에서 제외됩니다.
+     */
+    private List<PotSummaryDto> toGeoHitSummaryDtos(List<PotRedisGeoIndex.GeoHit> hits, PotFieldSet fields) {
+        Map<Long, Double> distanceById = new HashMap<>();
+        hits.forEach(hit -> distanceById.put(hit.potId(), hit.distanceKm()));
+        return createPotSummaryDtos(findAllByIdsInOrder(hits.stream().map(PotRedisGeoIndex.GeoHit::potId).toList()), fields,
+                pot -> distanceById.get(pot.getId()));
+    }
+
+    /**
+     * Specification을 사용하여 위치(사각형), 키워드, 카테고리, 상태에 대한 조회 모델(pot_summary)의 동적 쿼리를 생성합니다.
+     * 사각형 조건으로 DB에서 후보를 먼저 줄이고, 정확한 거리 계산은 사각형 안의 팟에 대해서만 수행합니다.
+     * @param keywordIds 키워드에 맞는 팟 ID 목록 (키워드가 없다면 null)
+     */
+    private Specification<PotSummary> buildSearchSpecification(Double lat, Double lon, Double distance, List<Long> keywordIds,
+                                                               PotCategory category, PotStatus status) {
+        Specification<PotSummary> spec = PotSpecification.withinBoundingBox(lat, lon, distance);
+        if(keywordIds != null) {
+            spec = spec.and(PotSpecification.idIn(keywordIds));
+        }
+        if(category != null) {
+            spec = spec.and(PotSpecification.equalCategory(category));
+        }
+        if(status != null) {
+            spec = spec.and(PotSpecification.equalStatus(status));
+        }
+        return spec;
+    }
+
+    /**
+     * 커서 토큰을 해석합니다. 비어 있다면 첫 페이지 요청이므로 null을 반환합니다.
+     */
+    private PotCursor decodeCursor(String cursor, PotScrollSort sort) {
+        return cursor == null || cursor.isBlank() ? null : PotCursor.decode(cursor, sort);
+    }
+
+    private int checkScrollSize(int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SCROLL_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    /**
+     * (페이지 크기 + 1)건으로 조회한 결과를 커서 페이지로 변환합니다.
+     * 한 건이 더 조회되었다면 다음 페이지가 있다는 뜻이므로, 이번 페이지의 마지막 행으로 다음 커서를 만듭니다.
      */
-    private boolean isWithinDistance(double lat1, double lon1, double lat2, double lon2, double distanceKm) {
-        final int R = 6371; // 지구의 반지름 (km)
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return (R * c) <= distanceKm;
+    private CursorPageResponseDto<PotSummaryDto> toCursorPage(List<PotSummary> rows, int size, PotFieldSet fields,
+                                                             Function<PotSummary, PotCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<PotSummary> pageContent = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? cursorOf.apply(pageContent.get(pageContent.size() - 1)).encode() : null;
+        return new CursorPageResponseDto<>(createPotSummaryDtos(pageContent, fields), next);
+    }
+
+    /**
+     * 키워드에 맞는 팟의 ID를 조회합니다.
+     * 2글자 이상은 FULLTEXT(ngram) 인덱스로 관련도 순으로 조회하고, 1글자 검색어만 LIKE 검색으로 대체합니다.
+     */
+    private List<Long> findIdsByKeyword(String keyword) {
+        String trimmed = keyword.trim();
+        if (trimmed.length() < PotRepository.FULLTEXT_MIN_KEYWORD_LENGTH) {
+            return potRepository.findIdsByKeyword(trimmed);
+        }
+        return potRepository.findIdsByFullTextKeyword(PotRepository.toFullTextQuery(trimmed));
+    }
+
+    /**
+     * 키워드가 있다면 키워드에 맞는 팟의 ID를 조회하고, 없다면 null을 반환합니다.
+     */
+    private List<Long> findKeywordIds(String keyword) {
+        return keyword == null || keyword.trim().isEmpty() ? null : findIdsByKeyword(keyword);
+    }
+
+    /**
+     * ID 목록에 해당하는 팟들의 요약 정보를 한 번의 쿼리로 조회하고, 요청한 ID 순서대로 정렬하여 반환합니다.
+     * (그 사이에 삭제된 팟은 결과에서 제외됩니다)
+     */
+    private List<PotSummary> findAllByIdsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PotSummary> potsById = potSummaryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(PotSummary::getId, Function.identity()));
+        return ids.stream()
+                .map(potsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
@@ -279,29 +966,64 @@ public class PotService {
         PotResponseDto responseDto = new PotResponseDto(pot);
         String imageKey = pot.getImageUrl();
 
-        // S3 기능이 활성화된 환경에서만 Presigned URL을 생성합니다.
-        if (imageKey != null && !imageKey.isEmpty() && this.amazonS3Client != null) {
-            responseDto.setImageUrl(generatePresignedUrl(imageKey));
+        // S3 기능이 활성화된 환경에서만 Presigned URL로 바뀝니다. (같은 이미지는 캐시된 URL을 재사용합니다)
+        if (imageKey != null && !imageKey.isEmpty()) {
+            responseDto.setImageUrl(presignedUrlCache.getUrl(imageKey));
         }
         return responseDto;
     }
 
     /**
-     * S3 파일 키를 받아, 제한된 시간 동안만 유효한 임시 접근 URL(Presigned URL)을 생성합니다.
+     * 목록/검색 결과 한 페이지의 각 팟에 현재 사용자의 참여 여부를 설정합니다.
+     * 사용자별로 참여한 팟 ID를 정렬된 배열로 캐시해 두므로, 캐시에 있다면 SQL 없이 팟마다 이진 탐색으로 확인합니다.
+     * 비로그인 사용자이거나 fields로 요청하지 않았다면 확인하지 않습니다. (응답 JSON에서 빠집니다)
+     * @param pots 목록 API가 반환할 DTO 목록
+     * @param fields 응답에 포함할 필드
+     * @param userDetails 현재 인증된 사용자의 정보 (비로그인이면 null)
      */
-    private String generatePresignedUrl(String fileKey) {
-        if (this.amazonS3Client == null) return fileKey; // S3 비활성화 시 원본 키 반환
-
-        Date expiration = new Date();
-        long expTimeMillis = expiration.getTime() + (60 * 60 * 1000); // 유효기간: 1시간
-        expiration.setTime(expTimeMillis);
+    public void markCurrentUserJoined(List<PotSummaryDto> pots, PotFieldSet fields, UserDetails userDetails) {
+        if (userDetails == null || pots.isEmpty() || !fields.contains(PotFieldSet.Field.currentUserJoined)) {
+            return;
+        }
+        long[] joinedPotIds = joinedPotsCache.get(userDetails.getUsername());
+        pots.forEach(pot -> pot.setCurrentUserJoined(JoinedPotsCache.contains(joinedPotIds, pot.getPotId())));
+    }
 
-        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, fileKey)
-                .withMethod(HttpMethod.GET)
-                .withExpiration(expiration);
+    /**
+     * 조회 모델(PotSummary) 목록을 목록용 PotSummaryDto 목록으로 변환합니다.
+     * 이미지 URL은 목록 전체를 한 번에 조회하므로, 캐시에 없는 이미지들은 한 번에 서명됩니다.
+     */
+    public List<PotSummaryDto> createPotSummaryDtos(List<PotSummary> summaries, PotFieldSet fields) {
+        return createPotSummaryDtos(summaries, fields, null);
+    }
 
-        URL url = amazonS3Client.generatePresignedUrl(request);
-        return url.toString();
+    /**
+     * 조회 모델(PotSummary) 목록을 위치 기반 검색 결과 DTO 목록으로 변환하고, 중심점으로부터의 거리를 함께 담습니다.
+     * [핵심] 이미지 URL과 거리는 fields로 요청한 경우에만 계산합니다. (요청하지 않은 필드는 서명도, 거리 계산도 하지 않습니다)
+     * @param distanceOf 팟의 거리(km)를 구하는 함수 (위치 기반 검색이 아니라면 null)
+     */
+    private List<PotSummaryDto> createPotSummaryDtos(List<PotSummary> summaries, PotFieldSet fields,
+                                                     ToDoubleFunction<PotSummary> distanceOf) {
+        Map<String, String> urls = fields.contains(PotFieldSet.Field.imageUrl)
+                ? presignedUrlCache.getUrls(summaries.stream()
+                        .map(PotSummary::getImageUrl)
+                        .filter(imageKey -> imageKey != null && !imageKey.isEmpty())
+                        .collect(Collectors.toSet()))
+                : Map.of();
+        boolean withDistance = distanceOf != null && fields.contains(PotFieldSet.Field.distanceKm);
+        List<PotSummaryDto> summaryDtos = new ArrayList<>(summaries.size());
+        for (PotSummary summary : summaries) {
+            PotSummaryDto summaryDto = PotSummaryDto.of(summary, fields);
+            String imageKey = summary.getImageUrl();
+            if (imageKey != null && urls.containsKey(imageKey)) {
+                summaryDto.setImageUrl(urls.get(imageKey));
+            }
+            if (withDistance) {
+                summaryDto.setDistanceKm(distanceOf.applyAsDouble(summary));
+            }
+            summaryDtos.add(summaryDto);
+        }
+        return summaryDtos;
     }
 }
 
@@ -0,0 +1,43 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 팟 목록 조회 모델(pot_summary)이 비어 있거나 pots 테이블보다 뒤처져 있다면 자동으로 맞춥니다.
+ * pot_summary는 pots를 외래 키로 참조하므로 요약 행 수가 팟 수보다 적을 때만 빠진 팟이 있고,
+ * DB를 직접 수정하여 인원/상태가 어긋난 요약이 있다면 함께 다시 복사합니다.
+ * 조회 모델을 처음 배포하거나 DB를 직접 수정한 뒤에도 관리자 API를 따로 호출할 필요가 없습니다.
+ * @author subdivision
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PotSummaryInitializer {
+
+    private final PotRepository potRepository;
+    private final PotSummaryRepository potSummaryRepository;
+    private final PotService potService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long pots = potRepository.count();
+        long summaries = potSummaryRepository.count();
+        if (summaries >= pots && potSummaryRepository.countOutOfSync() == 0) {
+            return;
+        }
+        try {
+            int changed = potService.rebuildSummaries();
+            log.info("팟 목록 조회 모델 동기화 완료: 팟 {}건, 요약 {}건 -> 변경 {}건", pots, summaries, changed);
+        } catch (DataAccessException e) {
+            // 여러 서버가 동시에 시작하면 같은 팟을 먼저 채운 서버와 충돌할 수 있습니다. 그 서버의 결과를 그대로 사용합니다.
+            log.warn("팟 목록 조회 모델 동기화 실패 (관리자 API로 다시 실행할 수 있습니다): {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subdivision.subdivision_prj.domain.GeoBoundingBox;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지도의 팟 레이어를 Mapbox Vector Tile(MVT) 바이너리로 만들어 주는 서비스입니다.
+ * 확대된 지도(MIN_ZOOM 이상)에서 팟 하나하나를 점으로 그릴 때 사용하며, 축소된 지도는 클러스터(/api/pots/clusters)를 사용합니다.
+ * 인코딩된 타일은 ETag와 함께 바이트 수 기준으로 크기가 제한된 LRU 캐시에 보관하고,
+ * 팟이 생성/수정/삭제되거나 참여 인원이 바뀌면 그 팟의 이전/현재 위치가 그려지는 타일만 무효화합니다.
+ * @author subdivision
+ */
+@Component
+public class PotTileService {
+
+    public static final int MIN_ZOOM = 10;
+    public static final int MAX_ZOOM = 22;
+    static final String LAYER_NAME = "pots";
+    static final int EXTENT = 4096;
+    // 타일 경계에 걸친 마커가 잘리지 않도록 이웃 타일 쪽으로 더 담는 영역 (타일 내부 좌표 단위)
+    static final int BUFFER = 64;
+    private static final double BUFFER_RATIO = (double) BUFFER / EXTENT;
+
+    private final PotGeoIndex potGeoIndex;
+    private final PotRepository potRepository;
+    // 타일 키 -> 인코딩된 타일과 ETag
+    private final Cache<Long, TileBytes> tileCache;
+
+    public PotTileService(PotGeoIndex potGeoIndex, PotRepository potRepository, MeterRegistry meterRegistry,
+                          @Value("${pot.tile.cache.max-bytes:33554432}") long maxBytes) {
+        this.potGeoIndex = potGeoIndex;
+        this.potRepository = potRepository;
+        // [핵심] 타일마다 크기가 크게 다르므로 항목 수가 아니라 바이트 수로 제한하여, 메모리 사용량의 상한을 보장합니다.
+        this.tileCache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long key, TileBytes tile) -> tile.data().length + tile.etag().length() + 64)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tileCache, "potVectorTile");
+    }
+
+    /**
+     * z/x/y 타일을 인코딩하여 반환합니다. (캐시에 있다면 캐시된 타일을 반환합니다)
+     */
+    public TileBytes getTile(int z, int x, int y) {
+        if (z < MIN_ZOOM || z > MAX_ZOOM) {
+            throw new IllegalArgumentException(
+                    "타일 줌 레벨은 " + MIN_ZOOM + " ~ " + MAX_ZOOM + " 사이여야 합니다. 축소된 지도는 /api/pots/clusters를 사용해주세요.");
+        }
+        int tilesPerAxis = 1 << z;
+        if (x < 0 || x >= tilesPerAxis || y < 0 || y >= tilesPerAxis) {
+            throw new IllegalArgumentException("타일 좌표가 줌 레벨의 범위를 벗어났습니다.");
+        }
+        if (!potGeoIndex.isReady()) {
+            // 색인이 준비되기 전에는 DB에서 바로 만들고, 불완전할 수 있는 결과는 캐시하지 않습니다.
+            return loadTile(z, x, y, potRepository::findSnapshotsInBox);
+        }
+        return tileCache.get(tileKey(z, x, y), key -> loadTile(z, x, y, this::findInIndex));
+    }
+
+    /**
+     * 팟 변경 트랜잭션이 커밋된 이후, 그 팟의 이전/현재 위치가 (버퍼 영역을 포함하여) 그려지는 타일만 제거합니다.
+     * 타일을 다시 만들 때 최신 색인을 읽도록, 공간 색인이 갱신된 다음에 실행됩니다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onPotChanged(PotChangedEvent event) {
+        invalidateAround(event.getPrevious());
+        invalidateAround(event.getCurrent());
+    }
+
+    public void invalidateAll() {
+        tileCache.invalidateAll();
+    }
+
+    private void invalidateAround(PotSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        double mercatorX = PotClusterIndex.mercatorX(snapshot.getLongitude());
+        double mercatorY = PotClusterIndex.mercatorY(snapshot.getLatitude());
+        for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+            int tilesPerAxis = 1 << z;
+            // 점이 타일 경계 가까이에 있다면 버퍼로 그 점을 담는 이웃 타일까지 (최대 2 x 2장) 제거합니다.
+            int minX = tileIndex(mercatorX * tilesPerAxis - BUFFER_RATIO, tilesPerAxis);
+            int maxX = tileIndex(mercatorX * tilesPerAxis + BUFFER_RATIO, tilesPerAxis);
+            int minY = tileIndex(mercatorY * tilesPerAxis - BUFFER_RATIO, tilesPerAxis);
+            int maxY = tileIndex(mercatorY * tilesPerAxis + BUFFER_RATIO, tilesPerAxis);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    tileCache.invalidate(tileKey(z, x, y));
+                }
+            }
+        }
+    }
+
+    private List<PotSnapshot> findInIndex(double minLat, double maxLat, double minLon, double maxLon) {
+        return potGeoIndex.findInBox(GeoBoundingBox.of(minLat, maxLat, minLon, maxLon));
+    }
+
+    private TileBytes loadTile(int z, int x, int y, SnapshotFinder finder) {
+        // 1. 버퍼를 포함한 타일 영역을 위도/경도 범위로 변환합니다. (타일 y는 북쪽이 작습니다)
+        int tilesPerAxis = 1 << z;
+        double minLon = tileToLongitude(x - BUFFER_RATIO, tilesPerAxis);
+        double maxLon = tileToLongitude(x + 1 + BUFFER_RATIO, tilesPerAxis);
+        double maxLat = tileToLatitude(y - BUFFER_RATIO, tilesPerAxis);
+        double minLat = tileToLatitude(y + 1 + BUFFER_RATIO, tilesPerAxis);
+        List<PotSnapshot> snapshots = new ArrayList<>(finder.find(minLat, maxLat, minLon, maxLon));
+        // 같은 데이터라면 같은 바이트(같은 ETag)가 나오도록 ID 순서로 기록합니다.
+        snapshots.sort(Comparator.comparing(PotSnapshot::getId));
+
+        // 2. 각 팟을 타일 내부 좌표(0 ~ EXTENT)의 점으로 인코딩합니다.
+        VectorTileEncoder encoder = new VectorTileEncoder(LAYER_NAME, EXTENT);
+        for (PotSnapshot snapshot : snapshots) {
+            int pixelX = (int) Math.round((PotClusterIndex.mercatorX(snapshot.getLongitude()) * tilesPerAxis - x) * EXTENT);
+            int pixelY = (int) Math.round((PotClusterIndex.mercatorY(snapshot.getLatitude()) * tilesPerAxis - y) * EXTENT);
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            attributes.put("potId", snapshot.getId());
+            attributes.put("category", snapshot.getCategory().name());
+            attributes.put("status", snapshot.getStatus().name());
+            attributes.put("currentHeadcount", snapshot.getCurrentHeadcount());
+            attributes.put("maximumHeadcount", snapshot.getMaximumHeadcount());
+            encoder.addPoint(snapshot.getId(), pixelX, pixelY, attributes);
+        }
+        byte[] data = encoder.encode();
+        return new TileBytes(data, "\"" + DigestUtils.md5DigestAsHex(data) + "\"");
+    }
+
+    private static int tileIndex(double tile, int tilesPerAxis) {
+        return Math.max(0, Math.min(tilesPerAxis - 1, (int) Math.floor(tile)));
+    }
+
+    private static double tileToLongitude(double tileX, int tilesPerAxis) {
+        return tileX / tilesPerAxis * 360 - 180;
+    }
+
+    private static double tileToLatitude(double tileY, int tilesPerAxis) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * tileY / tilesPerAxis))));
+    }
+
+    // 줌 레벨(5비트)과 타일 좌표(각 29비트)를 하나의 키로 합칩니다.
+    private static long tileKey(int z, int x, int y) {
+        return ((long) z << 58) | ((long) x << 29) | y;
+    }
+
+    @FunctionalInterface
+    private interface SnapshotFinder {
+        List<PotSnapshot> find(double minLat, double maxLat, double minLon, double maxLon);
+    }
+
+    /**
+     * 인코딩된 타일과 그 ETag (따옴표를 포함한 강한 ETag)
+     */
+    public record TileBytes(byte[] data, String etag) {
+    }
+}
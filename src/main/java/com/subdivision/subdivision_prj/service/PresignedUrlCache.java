@@ -0,0 +1,119 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.subdivision.subdivision_prj.service.S3UrlSigner.SignedUrl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 이미지 경로(Key)를 임시 접근 URL(Presigned URL)로 바꿔주고, 만든 URL을 만료 시각과 함께 캐시합니다.
+ * Presigned URL은 1시간 이상 유효하므로, 목록의 같은 이미지는 매 요청마다 SigV4 서명을 다시 계산하지 않고 캐시된 URL을 재사용합니다.
+ * 서명 자체는 S3UrlSigner가 담당하며, 목록 한 페이지의 캐시에 없는 이미지들은 getUrls로 한 번에 서명합니다.
+ * 캐시된 URL은 남은 유효 시간이 REFRESH_BEFORE_EXPIRY보다 짧아지면 캐시에서 빠지고, 다음 요청에서 새로 서명됩니다.
+ * (응답을 받은 클라이언트가 이미지를 불러오기 전에 URL이 만료되지 않도록 여유를 둡니다)
+ * 캐시 적중률은 cache.gets{cache=potImageUrl}, 서명 시간은 pot.image.presign 지표로 /actuator/metrics에서 확인할 수 있습니다.
+ * @author subdivision
+ */
+@Component
+public class PresignedUrlCache {
+
+    // 남은 유효 시간이 이보다 짧아지면 새로 서명합니다.
+    static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofMinutes(10);
+
+    private final Cache<String, SignedUrl> cache;
+    private final Timer signTimer;
+    // S3가 비활성화된 환경(예: local)에서는 null 입니다.
+    private final S3UrlSigner signer;
+
+    @Autowired
+    public PresignedUrlCache(@Autowired(required = false) S3UrlSigner signer,
+                             MeterRegistry meterRegistry,
+                             @Value("${pot.image.url-cache.max-size:50000}") long maxSize) {
+        this(meterRegistry, maxSize, Clock.systemUTC(), signer);
+    }
+
+    PresignedUrlCache(MeterRegistry meterRegistry, long maxSize, Clock clock, S3UrlSigner signer) {
+        this.signer = signer;
+        // [핵심] 항목마다 만료 시각이 다르므로, 생성 시점이 아니라 "만료 시각 - 여유 시간"에 캐시에서 빠지도록 합니다.
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, SignedUrl>() {
+                    @Override
+                    public long expireAfterCreate(String key, SignedUrl value, long currentTime) {
+                        Duration remaining = Duration.between(clock.instant(), value.expiresAt()).minus(REFRESH_BEFORE_EXPIRY);
+                        return Math.max(0, remaining.toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, SignedUrl value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, SignedUrl value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "potImageUrl");
+        this.signTimer = Timer.builder("pot.image.presign")
+                .description("Presigned URL 서명 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미지 경로(Key)의 Presigned URL을 반환합니다.
+     * S3가 비활성화된 환경에서는 원본 경로를 그대로 반환합니다.
+     */
+    public String getUrl(String key) {
+        if (signer == null) {
+            return key;
+        }
+        return cache.get(key, k -> signTimer.record(() -> signer.sign(k))).url();
+    }
+
+    /**
+     * 여러 이미지 경로(Key)의 Presigned URL을 한 번에 반환합니다. (목록 한 페이지를 변환할 때 사용합니다)
+     * 캐시에 없는 이미지들만 모아서 한 번에 서명합니다.
+     * @return 이미지 경로 -> Presigned URL
+     */
+    public Map<String, String> getUrls(Collection<String> keys) {
+        Map<String, String> urls = new HashMap<>();
+        if (signer == null) {
+            keys.forEach(key -> urls.put(key, key));
+            return urls;
+        }
+        Map<String, SignedUrl> signed = cache.getAll(keys, this::signAll);
+        signed.forEach((key, value) -> urls.put(key, value.url()));
+        return urls;
+    }
+
+    /**
+     * 현재 Presigned URL 서명 구간의 번호를 반환합니다. (S3가 비활성화된 환경에서는 항상 0)
+     * 이 값을 응답의 ETag에 포함하면, 304로 재사용하는 응답의 이미지 URL이 만료되기 전에 ETag가 바뀝니다.
+     * (캐시된 URL은 만료 10분 전까지만 사용되고 만료 시각은 구간의 경계이므로, 항상 현재 구간이 끝날 때까지는 유효합니다)
+     */
+    public long currentUrlBucket() {
+        return signer == null ? 0 : signer.currentTimeBucket();
+    }
+
+    private Map<String, SignedUrl> signAll(Set<? extends String> keys) {
+        return signTimer.record(() -> signer.signAll(keys));
+    }
+}
@@ -0,0 +1,217 @@
+package com.subdivision.subdivision_prj.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 이미지의 GET Presigned URL을 AWS SDK를 거치지 않고 직접 서명(SigV4, 쿼리 문자열 방식)하는 컴포넌트입니다.
+ * 서명은 네트워크 없이 계산만으로 만들어지므로, SDK의 요청 객체와 서명기 생성 비용 없이 다음과 같이 최적화합니다.
+ * 1. 날짜별 서명 키(Signing Key)는 HMAC 4번으로 유도되지만 하루 동안 같으므로, 날짜가 바뀔 때만 다시 유도합니다.
+ * 2. 여러 이미지를 한 번에 서명할 때는 Mac, MessageDigest, StringBuilder를 하나씩만 만들어 재사용합니다.
+ * 3. 서명 시각을 TIME_BUCKET 단위로 내려 맞춥니다. 같은 구간에서는 같은 이미지의 URL이 완전히 같으므로 브라우저가 이미지를 캐시할 수 있습니다.
+ * 서명 결과는 AmazonS3.generatePresignedUrl(가상 호스트 방식)과 같은 형식이며, 테스트에서 SDK의 결과와 비교해 검증합니다.
+ * @author subdivision
+ */
+@Component
+@ConditionalOnProperty(name = "cloud.aws.s3.enabled", havingValue = "true")
+public class S3UrlSigner {
+
+    // 서명 시각을 맞추는 구간의 길이
+    static final Duration TIME_BUCKET = Duration.ofMinutes(15);
+    // 발급 시점부터 최소한 보장하는 유효 기간
+    static final Duration URL_VALIDITY = Duration.ofHours(1);
+    // 서명 시각을 구간 시작으로 내리므로, 그만큼 유효 기간(X-Amz-Expires)을 늘려 최소 유효 기간을 보장합니다.
+    static final long EXPIRES_SECONDS = URL_VALIDITY.plus(TIME_BUCKET).toSeconds();
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+    private final String host;
+    private final Clock clock;
+
+    // 마지막으로 유도한 (날짜, 서명 키). 날짜가 바뀌면 통째로 교체합니다.
+    private volatile SigningKey signingKey;
+
+    @Autowired
+    public S3UrlSigner(@Value("${cloud.aws.credentials.access-key}") String accessKey,
+                       @Value("${cloud.aws.credentials.secret-key}") String secretKey,
+                       @Value("${cloud.aws.region.static}") String region,
+                       @Value("${cloud.aws.s3.bucket}") String bucket) {
+        this(accessKey, secretKey, region, bucket, Clock.systemUTC());
+    }
+
+    S3UrlSigner(String accessKey, String secretKey, String region, String bucket, Clock clock) {
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.region = region;
+        // SDK와 같이 버킷 이름을 호스트에 넣는 가상 호스트 방식을 사용합니다. (us-east-1은 리전 없는 엔드포인트를 사용)
+        this.host = bucket + (region.equals("us-east-1") ? ".s3.amazonaws.com" : ".s3." + region + ".amazonaws.com");
+        this.clock = clock;
+    }
+
+    /**
+     * 이미지 하나의 Presigned URL을 서명합니다.
+     */
+    public SignedUrl sign(String key) {
+        return signAll(List.of(key)).get(key);
+    }
+
+    /**
+     * 여러 이미지의 Presigned URL을 한 번에 서명합니다. 모든 URL은 같은 서명 시각(현재 구간의 시작)을 사용합니다.
+     * @return 이미지 경로(Key) -> 서명된 URL (keys의 순서를 유지합니다)
+     */
+    public Map<String, SignedUrl> signAll(Collection<? extends String> keys) {
+        return signAll(keys, Instant.ofEpochSecond(currentTimeBucket() * TIME_BUCKET.toSeconds()), EXPIRES_SECONDS);
+    }
+
+    /**
+     * 현재 시간 구간의 번호(에포크부터 센 TIME_BUCKET의 개수)를 반환합니다.
+     */
+    public long currentTimeBucket() {
+        return Math.floorDiv(clock.instant().getEpochSecond(), TIME_BUCKET.toSeconds());
+    }
+
+    /**
+     * 주어진 서명 시각과 유효 기간(초)으로 서명합니다. (SDK 결과와 비교하는 테스트에서 직접 사용합니다)
+     */
+    Map<String, SignedUrl> signAll(Collection<? extends String> keys, Instant signedAt, long expiresSeconds) {
+        String date = DATE.format(signedAt);
+        String dateTime = DATE_TIME.format(signedAt);
+        String scope = date + "/" + region + "/" + SERVICE + "/aws4_request";
+        Instant expiresAt = signedAt.plusSeconds(expiresSeconds);
+
+        // 1. 모든 URL에 공통인 쿼리 문자열입니다. (정렬된 순서 그대로 정규 요청에도 사용됩니다)
+        String query = "X-Amz-Algorithm=" + ALGORITHM
+                + "&X-Amz-Credential=" + encode(accessKey + "/" + scope, false)
+                + "&X-Amz-Date=" + dateTime
+                + "&X-Amz-Expires=" + expiresSeconds
+                + "&X-Amz-SignedHeaders=host";
+
+        // 2. [핵심] 배치 전체에서 Mac(오늘의 서명 키로 초기화), MessageDigest, StringBuilder를 하나씩만 사용합니다.
+        Mac mac = newMac(signingKey(date));
+        MessageDigest sha256 = newSha256();
+        StringBuilder sb = new StringBuilder(512);
+
+        Map<String, SignedUrl> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            // 3. 정규 요청(Canonical Request)의 해시를 구합니다.
+            sb.setLength(0);
+            sb.append("GET\n/");
+            appendEncoded(sb, key, true);
+            String path = sb.substring(4);
+            sb.append('\n').append(query)
+                    .append("\nhost:").append(host)
+                    .append("\n\nhost\nUNSIGNED-PAYLOAD");
+            byte[] canonicalHash = sha256.digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+
+            // 4. 서명할 문자열(String to Sign)을 오늘의 서명 키로 서명합니다.
+            sb.setLength(0);
+            sb.append(ALGORITHM).append('\n').append(dateTime).append('\n').append(scope).append('\n');
+            appendHex(sb, canonicalHash);
+            byte[] signature = mac.doFinal(sb.toString().getBytes(StandardCharsets.UTF_8));
+
+            sb.setLength(0);
+            sb.append("https://").append(host).append(path).append('?').append(query).append("&X-Amz-Signature=");
+            appendHex(sb, signature);
+            result.put(key, new SignedUrl(sb.toString(), expiresAt));
+        }
+        return result;
+    }
+
+    /**
+     * 날짜의 서명 키를 반환합니다. 같은 날짜라면 이전에 유도한 키를 재사용합니다.
+     */
+    private byte[] signingKey(String date) {
+        SigningKey current = signingKey;
+        if (current != null && current.date().equals(date)) {
+            return current.key();
+        }
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+        key = hmac(key, region);
+        key = hmac(key, SERVICE);
+        key = hmac(key, "aws4_request");
+        signingKey = new SigningKey(date, key);
+        return key;
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        return newMac(key).doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac newMac(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String encode(String value, boolean keepSlash) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        appendEncoded(sb, value, keepSlash);
+        return sb.toString();
+    }
+
+    /**
+     * SigV4 규칙대로 URI 인코딩합니다. (A-Z a-z 0-9 - _ . ~ 외에는 UTF-8 바이트를 %XX 대문자로)
+     */
+    private static void appendEncoded(StringBuilder sb, String value, boolean keepSlash) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            int c = b & 0xff;
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (keepSlash && c == '/')) {
+                sb.append((char) c);
+            } else {
+                sb.append('%').append(Character.toUpperCase(HEX[c >>> 4])).append(Character.toUpperCase(HEX[c & 0x0f]));
+            }
+        }
+    }
+
+    private static void appendHex(StringBuilder sb, byte[] bytes) {
+        for (byte b : bytes) {
+            sb.append(HEX[(b >>> 4) & 0x0f]).append(HEX[b & 0x0f]);
+        }
+    }
+
+    /**
+     * 서명된 URL과 그 만료 시각입니다.
+     */
+    public record SignedUrl(String url, Instant expiresAt) {
+    }
+
+    private record SigningKey(String date, byte[] key) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.subdivision.subdivision_prj.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점(Point) 피처만 담는 단일 레이어 Mapbox Vector Tile(MVT, 버전 2)을 Protocol Buffers 형식으로 인코딩합니다.
+ * 외부 라이브러리 없이 필요한 메시지(Tile, Layer, Feature, Value)만 직접 씁니다.
+ * 속성 키와 값은 레이어 단위로 중복을 제거하여 한 번씩만 기록하고, 피처는 그 위치(index)만 참조합니다.
+ * @author subdivision
+ */
+final class VectorTileEncoder {
+
+    // MVT 메시지의 필드 번호
+    private static final int TILE_LAYERS = 3;
+    private static final int LAYER_NAME = 1;
+    private static final int LAYER_FEATURES = 2;
+    private static final int LAYER_KEYS = 3;
+    private static final int LAYER_VALUES = 4;
+    private static final int LAYER_EXTENT = 5;
+    private static final int LAYER_VERSION = 15;
+    private static final int FEATURE_ID = 1;
+    private static final int FEATURE_TAGS = 2;
+    private static final int FEATURE_TYPE = 3;
+    private static final int FEATURE_GEOMETRY = 4;
+    private static final int VALUE_STRING = 1;
+    private static final int VALUE_UINT = 5;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+    private static final int GEOM_TYPE_POINT = 1;
+    // MoveTo 명령(1) 한 번: (명령 ID & 0x7) | (반복 횟수 << 3)
+    private static final int MOVE_TO_ONCE = 1 | (1 << 3);
+
+    private final String layerName;
+    private final int extent;
+    private final List<String> keys = new ArrayList<>();
+    private final Map<String, Integer> keyIndexes = new HashMap<>();
+    private final List<Object> values = new ArrayList<>();
+    private final Map<Object, Integer> valueIndexes = new HashMap<>();
+    private final List<byte[]> features = new ArrayList<>();
+
+    VectorTileEncoder(String layerName, int extent) {
+        this.layerName = layerName;
+        this.extent = extent;
+    }
+
+    /**
+     * 점 피처를 추가합니다.
+     * @param x 타일 내부 좌표 (0 ~ extent, 버퍼 영역이면 범위를 벗어날 수 있습니다)
+     * @param y 타일 내부 좌표 (위쪽이 0)
+     * @param attributes 속성 (값은 String 또는 0 이상의 Long/Integer), 순서대로 기록됩니다.
+     */
+    void addPoint(long id, int x, int y, Map<String, Object> attributes) {
+        ProtobufWriter tags = new ProtobufWriter();
+        attributes.forEach((key, value) -> {
+            tags.writeVarint(keyIndexes.computeIfAbsent(key, k -> {
+                keys.add(k);
+                return keys.size() - 1;
+            }));
+            Object normalized = value instanceof Integer number ? Long.valueOf(number) : value;
+            tags.writeVarint(valueIndexes.computeIfAbsent(normalized, v -> {
+                values.add(v);
+                return values.size() - 1;
+            }));
+        });
+        ProtobufWriter geometry = new ProtobufWriter();
+        geometry.writeVarint(MOVE_TO_ONCE);
+        geometry.writeVarint(zigZag(x));
+        geometry.writeVarint(zigZag(y));
+
+        ProtobufWriter feature = new ProtobufWriter();
+        feature.writeVarintField(FEATURE_ID, id);
+        feature.writeBytesField(FEATURE_TAGS, tags.toByteArray());
+        feature.writeVarintField(FEATURE_TYPE, GEOM_TYPE_POINT);
+        feature.writeBytesField(FEATURE_GEOMETRY, geometry.toByteArray());
+        features.add(feature.toByteArray());
+    }
+
+    byte[] encode() {
+        ProtobufWriter layer = new ProtobufWriter();
+        layer.writeVarintField(LAYER_VERSION, 2);
+        layer.writeBytesField(LAYER_NAME, layerName.getBytes(StandardCharsets.UTF_8));
+        features.forEach(feature -> layer.writeBytesField(LAYER_FEATURES, feature));
+        keys.forEach(key -> layer.writeBytesField(LAYER_KEYS, key.getBytes(StandardCharsets.UTF_8)));
+        for (Object value : values) {
+            ProtobufWriter encoded = new ProtobufWriter();
+            if (value instanceof Long number) {
+                encoded.writeVarintField(VALUE_UINT, number);
+            } else {
+                encoded.writeBytesField(VALUE_STRING, value.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            layer.writeBytesField(LAYER_VALUES, encoded.toByteArray());
+        }
+        layer.writeVarintField(LAYER_EXTENT, extent);
+
+        ProtobufWriter tile = new ProtobufWriter();
+        tile.writeBytesField(TILE_LAYERS, layer.toByteArray());
+        return tile.toByteArray();
+    }
+
+    // 음수 좌표도 짧은 varint로 표현되도록 부호를 최하위 비트로 옮깁니다.
+    private static long zigZag(int value) {
+        return Integer.toUnsignedLong((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Protocol Buffers의 varint와 length-delimited 필드만 쓰는 최소한의 writer
+     */
+    private static final class ProtobufWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void writeVarintField(int field, long value) {
+            writeVarint(((long) field << 3) | WIRE_VARINT);
+            writeVarint(value);
+        }
+
+        void writeBytesField(int field, byte[] bytes) {
+            writeVarint(((long) field << 3) | WIRE_LENGTH_DELIMITED);
+            writeVarint(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
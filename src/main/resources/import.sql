@@ -0,0 +1,35 @@
+-- ===================================================================
+-- Hibernate가 스키마를 생성(ddl-auto=create, create-drop)한 직후 실행하는 스크립트입니다.
+-- JPA 어노테이션으로 표현할 수 없는 MySQL 전용 인덱스를 생성합니다.
+-- 운영(ddl-auto=validate) DB에는 아래 구문을 직접 한 번 실행해야 합니다.
+--   ALTER TABLE pots ADD COLUMN location POINT SRID 4326 GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL;
+--   CREATE INDEX idx_pots_lat_lon ON pots (latitude, longitude);
+--   CREATE INDEX idx_pots_price ON pots (price);
+--   (이어서 아래의 SET, CREATE 구문들을 같은 세션에서 실행합니다. 불용어 설정은 FULLTEXT 인덱스를 만들 때 적용되므로,
+--    이미 ft_pots_keyword를 만들었다면 ALTER TABLE pots DROP INDEX ft_pots_keyword; 후 다시 만듭니다.)
+--   CREATE TABLE pot_summary (
+--       pot_id BIGINT NOT NULL PRIMARY KEY, author_id BIGINT NOT NULL, author_nickname VARCHAR(255) NOT NULL,
+--       title VARCHAR(255) NOT NULL, product_name VARCHAR(255) NOT NULL, price INT NOT NULL,
+--       maximum_headcount INT NOT NULL, current_headcount INT NOT NULL,
+--       status VARCHAR(255) NOT NULL, category VARCHAR(255) NOT NULL,
+--       latitude DOUBLE NOT NULL, longitude DOUBLE NOT NULL, image_url TEXT,
+--       INDEX idx_pot_summary_lat_lon (latitude, longitude), INDEX idx_pot_summary_price (price),
+--       INDEX idx_pot_summary_author (author_id),
+--       CONSTRAINT fk_pot_summary_pot FOREIGN KEY (pot_id) REFERENCES pots (pot_id));
+--   (기존 팟의 요약은 서버가 시작될 때 PotSummaryInitializer가 자동으로 채웁니다)
+--   ALTER TABLE pots ADD COLUMN version BIGINT NOT NULL DEFAULT 0, ADD COLUMN updated_at DATETIME(6);
+--   (중복 참여 행이 있다면 먼저 정리한 뒤) 참여 여부 확인과 중복 참여 방지를 이 유니크 제약의 인덱스 하나로 처리합니다.
+--   ALTER TABLE pot_members ADD CONSTRAINT uk_pot_members_pot_user UNIQUE (pot_id, user_id);
+-- ===================================================================
+
+-- 팟 위치 반경 검색(/api/pots/nearby)용 공간 인덱스
+CREATE SPATIAL INDEX idx_pots_location ON pots (location);
+
+-- 키워드 검색용 FULLTEXT 인덱스 (한국어 검색을 위해 ngram 파서 사용)
+-- InnoDB 기본 불용어(a, the, for 등)를 쓰면 ngram 파서는 불용어가 들어간 토큰을 색인하지 않아, LIKE 검색이 찾던 팟을 놓칩니다.
+-- 인덱스를 만드는 세션에서 불용어를 끄고 만듭니다.
+SET SESSION innodb_ft_enable_stopword = OFF;
+ALTER TABLE pots ADD FULLTEXT INDEX ft_pots_keyword (title, content, product_name) WITH PARSER ngram;
+
+-- 팟 목록 조회 모델은 pots의 행이 있을 때만 존재합니다. (PotSummary는 ID만 공유하므로 JPA가 외래 키를 만들지 않습니다)
+ALTER TABLE pot_summary ADD CONSTRAINT fk_pot_summary_pot FOREIGN KEY (pot_id) REFERENCES pots (pot_id);
@@ -0,0 +1,92 @@
+package com.subdivision.subdivision_prj.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subdivision.subdivision_prj.domain.Pot;
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotSummary;
+import com.subdivision.subdivision_prj.domain.User;
+import com.subdivision.subdivision_prj.dto.PotFieldSet;
+import com.subdivision.subdivision_prj.dto.PotSummaryDto;
+import com.subdivision.subdivision_prj.service.PotClusterIndex;
+import com.subdivision.subdivision_prj.service.PotService;
+import com.subdivision.subdivision_prj.service.PotTileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.header.HeaderWriterFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class PotListCacheControlTest {
+
+    private final PotService potService = mock(PotService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        //given - 운영과 같은 순서로 Spring Security의 캐시 헤더 작성기 뒤에 ETag 필터를 둡니다.
+        PotController controller = new PotController(
+                potService, mock(PotClusterIndex.class), mock(PotTileService.class), new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .addFilters(new HeaderWriterFilter(List.of(new CacheControlHeadersWriter())), new ShallowEtagHeaderFilter())
+                .build();
+        when(potService.getAllPots(any(PotFieldSet.class)))
+                .thenReturn(List.of(PotSummaryDto.of(summary(), PotFieldSet.parse(null))));
+    }
+
+    @Test
+    @DisplayName("목록 응답은 private, no-cache로 내려가 Spring Security의 no-store로 덮이지 않는다")
+    void list_response_is_private_and_revalidated() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get("/api/pots")).andExpect(status().isOk()).andReturn();
+
+        //then
+        String cacheControl = result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL);
+        assertThat(cacheControl).contains("no-cache", "private").doesNotContain("no-store");
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("같은 목록을 If-None-Match로 다시 요청하면 본문 없이 304를 받는다")
+    void second_request_with_etag_is_not_modified() throws Exception {
+        //given
+        String etag = mockMvc.perform(get("/api/pots")).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when
+        MvcResult result = mockMvc.perform(get("/api/pots").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        //then
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    private PotSummary summary() {
+        User author = User.builder().email("author@test.com").password("password").nickname("author").build();
+        ReflectionTestUtils.setField(author, "id", 1L);
+        Pot pot = Pot.builder()
+                .user(author).title("참치 나눠요").content("내용").productName("참치").price(12000)
+                .maximumHeadcount(4).latitude(35.1577).longitude(129.0591)
+                .category(PotCategory.FOOD)
+                .build();
+        ReflectionTestUtils.setField(pot, "id", 7L);
+        return PotSummary.from(pot);
+    }
+}
@@ -0,0 +1,55 @@
+package com.subdivision.subdivision_prj.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoDistanceKernelTest {
+
+    @Test
+    @DisplayName("현 길이 비교 결과는 Haversine 거리 비교 결과와 같고, ForkJoin으로 나누어도 순서가 유지된다")
+    void select_matches_haversine() {
+        //given - 병렬 처리 기준보다 많은 좌표를 부산 주변에 만듭니다.
+        Random random = new Random(11);
+        int n = GeoDistanceKernel.PARALLEL_THRESHOLD * 3 + 17;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 34.9 + random.nextDouble() * 0.6;
+            lons[i] = 128.8 + random.nextDouble() * 0.6;
+        }
+        double centerLat = 35.179554;
+        double centerLon = 129.075642;
+        GeoDistanceKernel kernel = GeoDistanceKernel.around(centerLat, centerLon, 7);
+
+        //when
+        int[] fromLatLon = new int[n];
+        int latLonCount = kernel.select(lats, lons, fromLatLon);
+        int[] fromUnitVectors = new int[n];
+        int unitVectorCount = kernel.select(GeoDistanceKernel.toUnitVectors(lats, lons), fromUnitVectors);
+
+        //then
+        int[] expected = IntStream.range(0, n)
+                .filter(i -> haversineKm(centerLat, centerLon, lats[i], lons[i]) <= 7)
+                .toArray();
+        assertThat(expected).isNotEmpty();
+        assertThat(IntStream.of(fromLatLon).limit(latLonCount).toArray()).containsExactly(expected);
+        assertThat(IntStream.of(fromUnitVectors).limit(unitVectorCount).toArray()).containsExactly(expected);
+        assertThat(kernel.distanceKm(lats[expected[0]], lons[expected[0]]))
+                .isCloseTo(haversineKm(centerLat, centerLon, lats[expected[0]], lons[expected[0]]), within(1e-9));
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        return GeoDistanceKernel.EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,82 @@
+package com.subdivision.subdivision_prj.domain;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상세 조회용 쿼리(@EntityGraph)로 PotDetailSnapshot을 만들 때 실행되는 SQL 문 수가 팟 수와 관계없이 일정한지 검증합니다.
+ */
+@PotJpaTest
+@TestPropertySource(properties = PotJpaTest.GENERATE_STATISTICS)
+class PotFetchPlanTest {
+
+    private static final int POT_COUNT = 30;
+    private static final int MEMBERS_PER_POT = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PotFixtures fixtures;
+    @Autowired
+    private PotRepository potRepository;
+
+    private final List<Long> potIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        //given - 작성자가 모두 다른 팟 30개에, 팟마다 서로 다른 사용자 3명이 참여해 있습니다.
+        for (int i = 0; i < POT_COUNT; i++) {
+            User author = fixtures.persistUser("author" + i);
+            Pot pot = fixtures.persistPot(author, "팟" + i, 1000 + i, MEMBERS_PER_POT + 1);
+            potIds.add(pot.getId());
+            for (int j = 0; j < MEMBERS_PER_POT; j++) {
+                User member = fixtures.persistUser("member" + i + "-" + j);
+                entityManager.persist(PotMember.builder().pot(pot).user(member).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("여러 팟의 상세 스냅샷은 팟 수와 관계없이 팟, 작성자, 참여자, 참여자의 사용자를 한 번의 SQL로 조회한다")
+    void details_are_converted_with_one_statement() {
+        //when
+        List<PotDetailSnapshot> details = potRepository.findDetailsByIdIn(potIds).stream()
+                .map(PotDetailSnapshot::from)
+                .toList();
+
+        //then
+        assertThat(details).hasSize(POT_COUNT);
+        assertThat(details).allSatisfy(detail -> assertThat(detail.members()).hasSize(MEMBERS_PER_POT));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("팟 하나의 상세 스냅샷도 한 번의 SQL로 조회한다")
+    void detail_is_converted_with_one_statement() {
+        //when
+        PotDetailSnapshot detail = potRepository.findDetailById(potIds.get(0))
+                .map(PotDetailSnapshot::from)
+                .orElseThrow();
+
+        //then
+        assertThat(detail.members()).hasSize(MEMBERS_PER_POT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.subdivision.subdivision_prj.domain;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 레파지토리 테스트에서 사용자와 팟을 저장하는 도우미입니다. (@PotJpaTest가 빈으로 등록합니다)
+ * 현재 트랜잭션의 EntityManager로 저장하므로, 테스트 트랜잭션이나 TransactionTemplate 안에서 호출합니다.
+ */
+public class PotFixtures {
+
+    private final EntityManager entityManager;
+
+    public PotFixtures(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 이메일이 "{이름}@test.com", 닉네임이 이름인 사용자를 저장합니다.
+     */
+    public User persistUser(String name) {
+        User user = User.builder().email(name + "@test.com").password("password").nickname(name).build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    /**
+     * 최대 4명(작성자 포함 현재 1명)인 모집중 팟을 저장합니다.
+     */
+    public Pot persistPot(User author) {
+        return persistPot(author, "팟", 1000, 4);
+    }
+
+    public Pot persistPot(User author, String title, int price, int maximumHeadcount) {
+        Pot pot = Pot.builder()
+                .user(author).title(title).content("내용").productName("상품").price(price)
+                .maximumHeadcount(maximumHeadcount).latitude(35.1577).longitude(129.0591)
+                .category(PotCategory.FOOD)
+                .build();
+        entityManager.persist(pot);
+        return pot;
+    }
+}
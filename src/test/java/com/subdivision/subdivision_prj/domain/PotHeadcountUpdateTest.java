@@ -0,0 +1,327 @@
+package com.subdivision.subdivision_prj.domain;
+
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import com.subdivision.subdivision_prj.domain.event.PotMemberChangedEvent;
+import com.subdivision.subdivision_prj.service.JoinedPotsCache;
+import com.subdivision.subdivision_prj.service.PotDetailCache;
+import com.subdivision.subdivision_prj.service.PotGeoIndex;
+import com.subdivision.subdivision_prj.service.PotKeywordIndex;
+import com.subdivision.subdivision_prj.service.PotRedisGeoIndex;
+import com.subdivision.subdivision_prj.service.PotSearchCache;
+import com.subdivision.subdivision_prj.service.PotService;
+import com.subdivision.subdivision_prj.service.PresignedUrlCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 참여/참여취소의 조건부 UPDATE가 동시에 실행되어도 인원이 최대치를 넘지 않는지, 실제로 커밋되는 트랜잭션으로 검증합니다.
+ * 서비스(PotService)의 참여/참여취소는 검색 인덱스와 캐시를 Mock으로 대신하고, 커밋된 뒤의 DB 상태와 이벤트를 확인합니다.
+ */
+@PotJpaTest
+@Import({PotService.class, PotHeadcountUpdateTest.CommittedEvents.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 별도의 트랜잭션을 커밋해야 하므로 테스트 트랜잭션을 사용하지 않습니다.
+class PotHeadcountUpdateTest {
+
+    @MockitoBean
+    private PotGeoIndex potGeoIndex;
+    @MockitoBean
+    private PotKeywordIndex potKeywordIndex;
+    @MockitoBean
+    private PotRedisGeoIndex potRedisGeoIndex;
+    @MockitoBean
+    private PotSearchCache potSearchCache;
+    @MockitoBean
+    private PresignedUrlCache presignedUrlCache;
+    @MockitoBean
+    private PotDetailCache potDetailCache;
+    @MockitoBean
+    private JoinedPotsCache joinedPotsCache;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PotFixtures fixtures;
+    @Autowired
+    private PotRepository potRepository;
+    @Autowired
+    private PotMemberRepository potMemberRepository;
+    @Autowired
+    private PotSummaryRepository potSummaryRepository;
+    @Autowired
+    private PotService potService;
+    @Autowired
+    private CommittedEvents committedEvents;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Long authorId;
+    private Long potId;
+
+    @BeforeEach
+    void setUp() {
+        //given - 최대 4명(작성자 포함 현재 1명)인 팟
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            User author = fixtures.persistUser("author");
+            Pot pot = fixtures.persistPot(author);
+            entityManager.persist(PotSummary.from(pot));
+            authorId = author.getId();
+            potId = pot.getId();
+        });
+        committedEvents.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 같은 H2 DB를 다른 테스트 클래스와 공유하므로, 커밋된 데이터를 지웁니다.
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM PotMember").executeUpdate();
+            entityManager.createQuery("DELETE FROM PotSummary").executeUpdate();
+            entityManager.createQuery("DELETE FROM Pot").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("남은 자리보다 많은 참여가 동시에 들어와도 남은 자리만큼만 성공하고 모집완료가 된다")
+    void concurrent_joins_never_exceed_maximum() throws Exception {
+        //given
+        int requests = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < requests; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return transaction.execute(status -> potRepository.incrementHeadcount(potId, LocalDateTime.now()));
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Integer> result : results) {
+            succeeded += result.get();
+        }
+        executor.shutdown();
+
+        //then
+        Pot pot = potRepository.findById(potId).orElseThrow();
+        assertThat(succeeded).isEqualTo(3);
+        assertThat(pot.getCurrentHeadcount()).isEqualTo(4);
+        assertThat(pot.getStatus()).isEqualTo(PotStatus.COMPLETED);
+        assertThat(pot.getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("참여자가 나가면 모집중으로 돌아가고, 작성자만 남으면 더 줄지 않는다")
+    void decrement_reopens_and_keeps_author() {
+        //given - 가득 찬 팟
+        for (int i = 0; i < 3; i++) {
+            transaction.execute(status -> potRepository.incrementHeadcount(potId, LocalDateTime.now()));
+        }
+
+        //when
+        int left = transaction.execute(status -> potRepository.decrementHeadcount(potId, LocalDateTime.now()));
+
+        //then
+        Pot pot = potRepository.findById(potId).orElseThrow();
+        assertThat(left).isEqualTo(1);
+        assertThat(pot.getCurrentHeadcount()).isEqualTo(3);
+        assertThat(pot.getStatus()).isEqualTo(PotStatus.RECRUITING);
+
+        //when - 작성자만 남을 때까지 나간 뒤 한 번 더 나가려고 하면
+        transaction.execute(status -> potRepository.decrementHeadcount(potId, LocalDateTime.now()));
+        transaction.execute(status -> potRepository.decrementHeadcount(potId, LocalDateTime.now()));
+        int authorLeft = transaction.execute(status -> potRepository.decrementHeadcount(potId, LocalDateTime.now()));
+
+        //then
+        assertThat(authorLeft).isZero();
+        assertThat(potRepository.findById(potId).orElseThrow().getCurrentHeadcount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 같은 팟에 두 번 참여하면 유니크 제약 위반이 발생한다")
+    void duplicate_membership_is_rejected() {
+        //given
+        transaction.executeWithoutResult(status -> potMemberRepository.saveAndFlush(member()));
+
+        //when & then
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> potMemberRepository.saveAndFlush(member())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 참여하면 남은 자리만큼만 성공하고, 팟과 참여 기록, 조회 모델, 이벤트가 모두 일치한다")
+    void concurrent_service_joins_keep_everything_consistent() throws Exception {
+        //given
+        List<String> emails = persistUsers("joiner", 10);
+
+        //when
+        List<String> failures = runConcurrently(emails, email -> potService.joinPot(potId, userDetails(email)));
+
+        //then - 3명만 참여하고, 나머지는 마감으로 거절됩니다.
+        assertThat(failures).hasSize(7).containsOnly("모집 인원이 마감되었습니다.");
+        assertCommittedState(4, PotStatus.COMPLETED, 3);
+        assertThat(committedEvents.memberEvents()).hasSize(3).allMatch(PotMemberChangedEvent::isJoined);
+        assertThat(committedEvents.potEvents()).hasSize(3)
+                .allMatch(event -> event.getType() == PotChangedEvent.Type.MEMBERSHIP);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 여러 번 참여하면 한 번만 성공하고, 유니크 제약에 걸린 요청의 인원 증가는 롤백된다")
+    void duplicate_service_joins_roll_back_increment() throws Exception {
+        //given
+        String email = persistUsers("joiner", 1).get(0);
+
+        //when
+        List<String> failures = runConcurrently(Collections.nCopies(5, email),
+                each -> potService.joinPot(potId, userDetails(each)));
+
+        //then
+        assertThat(failures).hasSize(4).containsOnly("이미 참여한 팟입니다.");
+        assertCommittedState(2, PotStatus.RECRUITING, 1);
+        assertThat(committedEvents.memberEvents()).hasSize(1);
+        assertThat(committedEvents.potEvents()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 여러 번 나가면 한 번만 성공하고, 참여 기록을 지우지 못한 요청의 인원 감소는 롤백된다")
+    void duplicate_service_leaves_roll_back_decrement() throws Exception {
+        //given - 두 사용자가 참여해 있습니다. (작성자 포함 3명)
+        List<String> emails = persistUsers("joiner", 2);
+        emails.forEach(email -> potService.joinPot(potId, userDetails(email)));
+        committedEvents.clear();
+
+        //when
+        List<String> failures = runConcurrently(Collections.nCopies(5, emails.get(0)),
+                email -> potService.leavePot(potId, userDetails(email)));
+
+        //then
+        assertThat(failures).hasSize(4).containsOnly("이 팟의 멤버가 아닙니다.");
+        assertCommittedState(2, PotStatus.RECRUITING, 1);
+        assertThat(committedEvents.memberEvents()).hasSize(1).noneMatch(PotMemberChangedEvent::isJoined);
+        assertThat(committedEvents.potEvents()).hasSize(1);
+    }
+
+    // 커밋된 팟의 인원/상태, 참여 기록 수, 조회 모델(pot_summary)의 인원/상태가 모두 같은지 확인합니다.
+    private void assertCommittedState(int headcount, PotStatus status, long members) {
+        Pot pot = potRepository.findById(potId).orElseThrow();
+        assertThat(pot.getCurrentHeadcount()).isEqualTo(headcount);
+        assertThat(pot.getStatus()).isEqualTo(status);
+        assertThat(potMemberRepository.count()).isEqualTo(members);
+        PotSummary summary = potSummaryRepository.findById(potId).orElseThrow();
+        assertThat(summary.getCurrentHeadcount()).isEqualTo(headcount);
+        assertThat(summary.getStatus()).isEqualTo(status);
+    }
+
+    // 모든 요청을 동시에 시작하고, 실패한 요청의 메시지를 모아 반환합니다.
+    private List<String> runConcurrently(List<String> emails, Consumer<String> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(emails.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (String email : emails) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    request.accept(email);
+                    return null;
+                } catch (IllegalArgumentException e) {
+                    return e.getMessage();
+                }
+            }));
+        }
+        start.countDown();
+        List<String> failures = new ArrayList<>();
+        for (Future<String> result : results) {
+            String failure = result.get();
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        executor.shutdown();
+        return failures;
+    }
+
+    private List<String> persistUsers(String prefix, int count) {
+        List<String> emails = new ArrayList<>();
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                emails.add(fixtures.persistUser(prefix + i).getEmail());
+            }
+        });
+        return emails;
+    }
+
+    private UserDetails userDetails(String email) {
+        return org.springframework.security.core.userdetails.User.withUsername(email)
+                .password("password").authorities(List.of()).build();
+    }
+
+    private PotMember member() {
+        return PotMember.builder()
+                .pot(potRepository.getReferenceById(potId))
+                .user(entityManager.getReference(User.class, authorId))
+                .build();
+    }
+
+    /**
+     * 커밋된 뒤에 전달된 이벤트만 모읍니다.
+     */
+    static class CommittedEvents {
+
+        private final List<PotChangedEvent> potEvents = new CopyOnWriteArrayList<>();
+        private final List<PotMemberChangedEvent> memberEvents = new CopyOnWriteArrayList<>();
+
+        @TransactionalEventListener
+        void onPotChanged(PotChangedEvent event) {
+            potEvents.add(event);
+        }
+
+        @TransactionalEventListener
+        void onPotMemberChanged(PotMemberChangedEvent event) {
+            memberEvents.add(event);
+        }
+
+        List<PotChangedEvent> potEvents() {
+            return potEvents;
+        }
+
+        List<PotMemberChangedEvent> memberEvents() {
+            return memberEvents;
+        }
+
+        void clear() {
+            potEvents.clear();
+            memberEvents.clear();
+        }
+    }
+}
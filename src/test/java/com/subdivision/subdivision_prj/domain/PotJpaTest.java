@@ -0,0 +1,29 @@
+package com.subdivision.subdivision_prj.domain;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 팟 관련 레파지토리 테스트의 공통 설정입니다.
+ * H2에 sql/pot-schema.sql(운영 DB와 같은 제약 조건)로 스키마를 만들고, 테스트 데이터를 만드는 PotFixtures를 등록합니다.
+ * 실행된 SQL 문 수를 확인하는 테스트는 @TestPropertySource(properties = PotJpaTest.GENERATE_STATISTICS)를 함께 붙입니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.sql.init.schema-locations=classpath:sql/pot-schema.sql"
+})
+@Import(PotFixtures.class)
+public @interface PotJpaTest {
+
+    String GENERATE_STATISTICS = "spring.jpa.properties.hibernate.generate_statistics=true";
+}
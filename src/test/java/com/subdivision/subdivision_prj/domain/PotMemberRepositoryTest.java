@@ -0,0 +1,73 @@
+package com.subdivision.subdivision_prj.domain;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상세/목록 조회의 참여 여부(currentUserJoined)를 팟과 참여자 목록을 로딩하지 않고 확인하는지 검증합니다.
+ */
+@PotJpaTest
+@TestPropertySource(properties = PotJpaTest.GENERATE_STATISTICS)
+class PotMemberRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PotFixtures fixtures;
+    @Autowired
+    private PotMemberRepository potMemberRepository;
+
+    private Pot joinedPot;
+    private Pot otherPot;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        //given - joiner는 joinedPot에만 참여해 있습니다.
+        User author = fixtures.persistUser("author");
+        User joiner = fixtures.persistUser("joiner");
+        joinedPot = fixtures.persistPot(author);
+        otherPot = fixtures.persistPot(author);
+        entityManager.persist(PotMember.builder().pot(joinedPot).user(joiner).build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("참여 여부는 엔티티를 로딩하지 않고 한 번의 SQL로 확인한다")
+    void exists_does_not_hydrate_entities() {
+        //when
+        boolean joined = potMemberRepository.existsByPot_IdAndUser_Email(joinedPot.getId(), "joiner@test.com");
+        boolean notJoined = potMemberRepository.existsByPot_IdAndUser_Email(otherPot.getId(), "joiner@test.com");
+
+        //then
+        assertThat(joined).isTrue();
+        assertThat(notJoined).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자가 참여한 팟 ID를 엔티티 로딩 없이 한 번의 SQL로 조회한다")
+    void joined_pot_ids_of_user() {
+        //when
+        List<Long> joinedIds = potMemberRepository.findPotIdsByUserEmail("joiner@test.com");
+
+        //then
+        assertThat(joinedIds).containsExactly(joinedPot.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,104 @@
+package com.subdivision.subdivision_prj.domain;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@PotJpaTest
+class PotSummaryRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PotFixtures fixtures;
+    @Autowired
+    private PotSummaryRepository potSummaryRepository;
+    @Autowired
+    private PotRepository potRepository;
+
+    private User author;
+    private User joiner;
+    private Pot first;
+    private Pot second;
+
+    @BeforeEach
+    void setUp() {
+        //given - 작성자 한 명의 팟 2개 중 첫 번째 팟에만 다른 사용자가 참여해 있습니다.
+        author = fixtures.persistUser("author");
+        joiner = fixtures.persistUser("joiner");
+        first = fixtures.persistPot(author, "첫 번째 팟", 1000, 4);
+        second = fixtures.persistPot(author, "두 번째 팟", 1000, 4);
+        entityManager.persist(PotMember.builder().pot(first).user(joiner).build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("요약 정보가 없는 팟은 pots 테이블에서 채워지고, 이미 있는 팟은 건너뛴다")
+    void backfill_inserts_only_missing_rows() {
+        //given
+        entityManager.persist(PotSummary.from(first));
+        entityManager.flush();
+
+        //when
+        int inserted = potSummaryRepository.backfillMissing();
+        entityManager.clear();
+
+        //then
+        assertThat(inserted).isEqualTo(1);
+        PotSummary summary = potSummaryRepository.findById(second.getId()).orElseThrow();
+        assertThat(summary.getTitle()).isEqualTo("두 번째 팟");
+        assertThat(summary.getAuthorNickname()).isEqualTo("author");
+        assertThat(summary.getStatus()).isEqualTo(PotStatus.RECRUITING);
+    }
+
+    @Test
+    @DisplayName("작성자 닉네임 변경은 그 사용자의 모든 요약 정보에 반영되고, 참여한 팟은 참여 정보로 조회된다")
+    void nickname_update_and_joined_lookup() {
+        //given
+        potSummaryRepository.backfillMissing();
+
+        //when
+        int updated = potSummaryRepository.updateAuthorNickname(author.getId(), "새닉네임");
+        entityManager.clear();
+
+        //then
+        assertThat(updated).isEqualTo(2);
+        assertThat(potSummaryRepository.findAllByAuthorIdOrderByIdDesc(author.getId()))
+                .extracting(PotSummary::getId, PotSummary::getAuthorNickname)
+                .containsExactly(
+                        tuple(second.getId(), "새닉네임"),
+                        tuple(first.getId(), "새닉네임"));
+        List<PotSummary> joined = potSummaryRepository.findAllJoinedBy(joiner);
+        assertThat(joined).extracting(PotSummary::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    @DisplayName("인원이나 상태가 pots와 어긋난 요약 정보만 다시 복사한다")
+    void resync_fixes_only_stale_headcounts() {
+        //given - 요약을 채운 뒤, 요약을 갱신하지 않고 첫 번째 팟의 인원만 3번 늘립니다. (모집완료)
+        potSummaryRepository.backfillMissing();
+        for (int i = 0; i < 3; i++) {
+            potRepository.incrementHeadcount(first.getId(), LocalDateTime.now());
+        }
+        assertThat(potSummaryRepository.countOutOfSync()).isEqualTo(1);
+
+        //when
+        int updated = potSummaryRepository.resyncHeadcounts();
+        entityManager.clear();
+
+        //then
+        assertThat(updated).isEqualTo(1);
+        assertThat(potSummaryRepository.countOutOfSync()).isZero();
+        PotSummary summary = potSummaryRepository.findById(first.getId()).orElseThrow();
+        assertThat(summary.getCurrentHeadcount()).isEqualTo(4);
+        assertThat(summary.getStatus()).isEqualTo(PotStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,96 @@
+package com.subdivision.subdivision_prj.domain;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상세 조회 API의 ETag에 사용하는 팟 버전이 변경마다 올라가고, 버전 조회는 엔티티를 로딩하지 않는지 검증합니다.
+ */
+@PotJpaTest
+@TestPropertySource(properties = PotJpaTest.GENERATE_STATISTICS)
+class PotVersionTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PotFixtures fixtures;
+    @Autowired
+    private PotRepository potRepository;
+
+    private User author;
+    private User joiner;
+    private Pot pot;
+    private Pot otherPot;
+
+    @BeforeEach
+    void setUp() {
+        //given - joiner가 author의 팟에 참여해 있고, 다른 사용자의 팟이 하나 더 있습니다.
+        author = fixtures.persistUser("author");
+        joiner = fixtures.persistUser("joiner");
+        pot = fixtures.persistPot(author);
+        otherPot = fixtures.persistPot(fixtures.persistUser("other"));
+        entityManager.persist(PotMember.builder().pot(pot).user(joiner).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("버전 조회는 팟 엔티티를 로딩하지 않고 한 번의 SQL로 끝난다")
+    void version_lookup_does_not_hydrate_entities() {
+        //given
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        PotVersion version = potRepository.findVersionById(pot.getId()).orElseThrow();
+
+        //then
+        assertThat(version.version()).isZero();
+        assertThat(version.updatedAt()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 팟의 버전을 한 번에 조회하고, 없는 팟은 결과에서 빠진다")
+    void versions_lookup_skips_missing_pots() {
+        //when
+        List<PotVersion> versions = potRepository.findVersionsByIdIn(List.of(pot.getId(), otherPot.getId(), -1L));
+
+        //then
+        assertThat(versions).extracting(PotVersion::potId).containsExactlyInAnyOrder(pot.getId(), otherPot.getId());
+    }
+
+    @Test
+    @DisplayName("참여 인원이 바뀌면 팟의 버전이 올라간다")
+    void membership_change_increments_version() {
+        //when - 참여/참여취소는 엔티티 대신 조건부 UPDATE로만 인원을 바꿉니다.
+        potRepository.incrementHeadcount(pot.getId(), LocalDateTime.now());
+
+        //then
+        assertThat(potRepository.findVersionById(pot.getId()).orElseThrow().version()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("닉네임이 바뀐 사용자가 작성했거나 참여한 팟의 버전만 올라간다")
+    void touch_increments_only_related_pots() {
+        //when
+        int touched = potRepository.touchPotsOfUser(joiner.getId(), LocalDateTime.now());
+
+        //then
+        assertThat(touched).isEqualTo(1);
+        assertThat(potRepository.findVersionById(pot.getId()).orElseThrow().version()).isEqualTo(1);
+        assertThat(potRepository.findVersionById(otherPot.getId()).orElseThrow().version()).isZero();
+    }
+}
@@ -0,0 +1,24 @@
+package com.subdivision.subdivision_prj.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PotCursorTest {
+
+    @Test
+    @DisplayName("가격(int) 범위를 벗어난 가격순 커서는 잘못된 요청(IllegalArgumentException)으로 처리한다")
+    void price_cursor_out_of_int_range_is_rejected() {
+        //given
+        String token = new PotCursor(Integer.MAX_VALUE + 1L, 10L).encode();
+
+        //when & then
+        assertThatThrownBy(() -> PotCursor.decode(token, PotScrollSort.PRICE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        // 최신순 커서는 정렬 키로 팟 ID(long)를 사용하므로 그대로 해석됩니다.
+        assertThat(PotCursor.decode(token, PotScrollSort.LATEST).getPotId()).isEqualTo(10L);
+    }
+}
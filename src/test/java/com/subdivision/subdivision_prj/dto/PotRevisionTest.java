@@ -0,0 +1,27 @@
+package com.subdivision.subdivision_prj.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PotRevisionTest {
+
+    @Test
+    @DisplayName("String.hashCode가 같은 두 이메일도 ETag의 사용자 식별값은 서로 다르다")
+    void viewer_tag_does_not_collide_on_equal_hash_codes() {
+        //given - "Aa"와 "BB"는 String.hashCode가 같습니다.
+        String first = "Aa@test.com";
+        String second = "BB@test.com";
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+
+        //when
+        String firstTag = PotRevision.viewerTag(first);
+        String secondTag = PotRevision.viewerTag(second);
+
+        //then
+        assertThat(firstTag).hasSize(16).isNotEqualTo(secondTag);
+        assertThat(firstTag).doesNotContain("test.com");
+        assertThat(PotRevision.viewerTag(null)).isEqualTo("anonymous");
+    }
+}
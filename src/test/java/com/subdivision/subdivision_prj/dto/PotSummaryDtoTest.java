@@ -0,0 +1,67 @@
+package com.subdivision.subdivision_prj.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subdivision.subdivision_prj.domain.Pot;
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotSummary;
+import com.subdivision.subdivision_prj.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PotSummaryDtoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("fields로 요청한 필드와 potId만 응답 JSON에 포함된다")
+    void serializes_only_requested_fields() throws Exception {
+        //given
+        PotFieldSet fields = PotFieldSet.parse(" title, price ,");
+
+        //when
+        JsonNode json = objectMapper.valueToTree(PotSummaryDto.of(summary(), fields));
+
+        //then
+        assertThat(json.fieldNames()).toIterable().containsExactlyInAnyOrder("potId", "title", "price");
+        assertThat(json.get("title").asText()).isEqualTo("참치 나눠요");
+    }
+
+    @Test
+    @DisplayName("fields가 없으면 목록 카드의 모든 필드가 포함된다")
+    void includes_all_fields_by_default() {
+        //when
+        JsonNode json = objectMapper.valueToTree(PotSummaryDto.of(summary(), PotFieldSet.parse(null)));
+
+        //then - 이미지 URL과 거리는 서비스 레이어에서 채웁니다.
+        assertThat(json.fieldNames()).toIterable().containsExactlyInAnyOrderElementsOf(List.of(
+                "potId", "title", "productName", "price", "maximumHeadcount", "currentHeadcount", "authorNickname",
+                "latitude", "longitude", "category", "status"));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 필드를 요청하면 예외가 발생한다")
+    void rejects_unknown_field() {
+        assertThatThrownBy(() -> PotFieldSet.parse("title,content"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("content");
+    }
+
+    private PotSummary summary() {
+        User author = User.builder().email("author@test.com").password("password").nickname("author").build();
+        ReflectionTestUtils.setField(author, "id", 1L);
+        Pot pot = Pot.builder()
+                .user(author).title("참치 나눠요").content("내용").productName("참치").price(12000)
+                .maximumHeadcount(4).latitude(35.1577).longitude(129.0591)
+                .category(PotCategory.FOOD)
+                .build();
+        ReflectionTestUtils.setField(pot, "id", 7L);
+        return PotSummary.from(pot);
+    }
+}
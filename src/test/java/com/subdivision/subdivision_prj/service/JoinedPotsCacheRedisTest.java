@@ -0,0 +1,123 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotMemberRepository;
+import com.subdivision.subdivision_prj.domain.event.PotMemberChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내장 Redis 서버에서 참여한 팟 캐시의 Lua 스크립트(채우기, 변경)를 실제로 실행하여 검증합니다.
+ */
+class JoinedPotsCacheRedisTest {
+
+    private static final String EMAIL = "joiner@test.com";
+
+    private static RedisServer redisServer;
+    private static JedisConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final PotMemberRepository potMemberRepository = mock(PotMemberRepository.class);
+    private JoinedPotsCache cache;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        cache = new JoinedPotsCache(new SimpleMeterRegistry(), redisTemplate, potMemberRepository,
+                mock(RedisMessageListenerContainer.class), 100, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Lua unpack 한도(약 8000개)보다 많은 팟에 참여한 사용자도 Redis Set이 모두 채워진다")
+    void fills_more_ids_than_unpack_limit() {
+        //given
+        List<Long> joined = LongStream.rangeClosed(1, 10_000).boxed().toList();
+        when(potMemberRepository.findPotIdsByUserEmail(EMAIL)).thenReturn(joined);
+
+        //when
+        long[] ids = cache.get(EMAIL);
+
+        //then - 완료 표시와 함께 모든 ID가 저장됩니다.
+        assertThat(ids).hasSize(10_000);
+        Set<String> members = redisTemplate.opsForSet().members(JoinedPotsCache.KEY_PREFIX + EMAIL);
+        assertThat(members).hasSize(10_001).contains(JoinedPotsCache.COMPLETE_MARKER, "1", "10000");
+        assertThat(redisTemplate.getExpire(JoinedPotsCache.KEY_PREFIX + EMAIL)).isPositive();
+    }
+
+    @Test
+    @DisplayName("채운 뒤의 참여/참여취소는 Redis Set에 반영되고 세대 번호가 올라간다")
+    void applies_changes_to_filled_set() {
+        //given
+        when(potMemberRepository.findPotIdsByUserEmail(EMAIL)).thenReturn(List.of(3L, 5L));
+        cache.get(EMAIL);
+
+        //when
+        cache.onPotMemberChanged(PotMemberChangedEvent.joined(7L, EMAIL));
+        cache.onPotMemberChanged(PotMemberChangedEvent.left(3L, EMAIL));
+
+        //then
+        assertThat(redisTemplate.opsForSet().members(JoinedPotsCache.KEY_PREFIX + EMAIL))
+                .containsExactlyInAnyOrder(JoinedPotsCache.COMPLETE_MARKER, "5", "7");
+        assertThat(redisTemplate.opsForValue().get(JoinedPotsCache.GENERATION_KEY_PREFIX + EMAIL)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 세대 번호가 바뀌었다면 DB에서 읽은 이전 목록을 Redis에 저장하지 않는다")
+    void skips_fill_when_generation_changed() {
+        //given - DB를 조회하는 사이에 다른 서버에서 참여가 커밋됩니다.
+        when(potMemberRepository.findPotIdsByUserEmail(EMAIL)).thenAnswer(inv -> {
+            redisTemplate.opsForValue().increment(JoinedPotsCache.GENERATION_KEY_PREFIX + EMAIL);
+            return List.of(3L);
+        });
+
+        //when
+        long[] ids = cache.get(EMAIL);
+
+        //then
+        assertThat(ids).containsExactly(3L);
+        assertThat(redisTemplate.hasKey(JoinedPotsCache.KEY_PREFIX + EMAIL)).isFalse();
+    }
+}
@@ -0,0 +1,205 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotMemberRepository;
+import com.subdivision.subdivision_prj.domain.event.PotMemberChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis Set과 세대 번호는 메모리 Map으로, Lua 스크립트는 같은 동작으로 흉내 내고,
+ * 같은 Redis를 공유하는 두 서버(캐시 인스턴스)로 참여한 팟 캐시의 동작을 검증합니다.
+ */
+class JoinedPotsCacheTest {
+
+    private static final String EMAIL = "joiner@test.com";
+
+    private final Map<String, Set<String>> redis = new HashMap<>();
+    private final Map<String, String> generations = new HashMap<>();
+    private final List<MessageListener> subscribers = new ArrayList<>();
+    // 실제 Pub/Sub은 다른 스레드에서 전달되므로, 캐시를 채우는 도중에 보낸 메시지는 모아 두었다가 채우기가 끝난 뒤 전달합니다.
+    private final List<DefaultMessage> deferred = new ArrayList<>();
+    private boolean deferDelivery;
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final PotMemberRepository potMemberRepository = mock(PotMemberRepository.class);
+    private final SetOperations<String, String> setOperations = mockSetOperations();
+
+    private JoinedPotsCache server1;
+    private JoinedPotsCache server2;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(inv -> generations.get(inv.<String>getArgument(0)));
+        when(redisTemplate.delete(anyString())).thenAnswer(inv -> redis.remove(inv.<String>getArgument(0)) != null);
+        // 채우기 스크립트는 세대 번호가 같고 아직 채워지지 않았을 때만 저장하고, 변경 스크립트는 세대 번호를 올린 뒤 반영합니다.
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+            RedisScript<?> script = inv.getArgument(0);
+            List<String> keys = inv.getArgument(1);
+            Object[] arguments = Arrays.copyOfRange(inv.getArguments(), 2, inv.getArguments().length);
+            Set<String> members = redis.get(keys.get(0));
+            boolean complete = members != null && members.contains(JoinedPotsCache.COMPLETE_MARKER);
+            if (script.getScriptAsString().contains("INCR")) {
+                generations.merge(keys.get(1), "1", (previous, one) -> Long.toString(Long.parseLong(previous) + 1));
+                if (!complete) {
+                    return 0L;
+                }
+                if ("1".equals(arguments[1])) {
+                    members.add((String) arguments[2]);
+                } else {
+                    members.remove((String) arguments[2]);
+                }
+                return 1L;
+            }
+            if (!generations.getOrDefault(keys.get(1), "0").equals(arguments[0]) || complete) {
+                return 0L;
+            }
+            Set<String> filled = new HashSet<>();
+            Arrays.stream(arguments, 2, arguments.length).forEach(member -> filled.add((String) member));
+            redis.put(keys.get(0), filled);
+            return 1L;
+        });
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenAnswer(inv -> {
+            DefaultMessage message = new DefaultMessage(inv.<String>getArgument(0).getBytes(StandardCharsets.UTF_8),
+                    inv.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            if (deferDelivery) {
+                deferred.add(message);
+            } else {
+                subscribers.forEach(subscriber -> subscriber.onMessage(message, null));
+            }
+            return (long) subscribers.size();
+        });
+        when(potMemberRepository.findPotIdsByUserEmail(EMAIL)).thenReturn(List.of(30L, 10L, 20L));
+
+        server1 = newCache();
+        server2 = newCache();
+    }
+
+    @Test
+    @DisplayName("DB에서 한 번 채운 참여 팟 ID를 다른 서버는 Redis에서 읽고, 정렬된 배열로 확인한다")
+    void loads_once_and_shares_through_redis() {
+        //when
+        long[] fromDb = server1.get(EMAIL);
+        long[] fromRedis = server2.get(EMAIL);
+
+        //then
+        assertThat(fromDb).containsExactly(10, 20, 30);
+        assertThat(fromRedis).containsExactly(10, 20, 30);
+        assertThat(JoinedPotsCache.contains(fromRedis, 20L)).isTrue();
+        assertThat(JoinedPotsCache.contains(fromRedis, 25L)).isFalse();
+        verify(potMemberRepository, times(1)).findPotIdsByUserEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("참여/참여취소가 커밋되면 SQL 없이 모든 서버의 참여 팟 ID에 반영된다")
+    void join_and_leave_update_every_server() {
+        //given
+        server1.get(EMAIL);
+        server2.get(EMAIL);
+
+        //when
+        server1.onPotMemberChanged(PotMemberChangedEvent.joined(15L, EMAIL));
+        server2.onPotMemberChanged(PotMemberChangedEvent.left(30L, EMAIL));
+
+        //then
+        assertThat(server1.get(EMAIL)).containsExactly(10, 15, 20);
+        assertThat(server2.get(EMAIL)).containsExactly(10, 15, 20);
+        verify(potMemberRepository, times(1)).findPotIdsByUserEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("참여한 팟이 없는 사용자도 캐시되어 다시 조회하지 않는다")
+    void caches_user_without_joined_pots() {
+        //given
+        when(potMemberRepository.findPotIdsByUserEmail("new@test.com")).thenReturn(List.of());
+
+        //when
+        server1.get("new@test.com");
+        long[] joined = server2.get("new@test.com");
+
+        //then
+        assertThat(joined).isEmpty();
+        verify(potMemberRepository, times(1)).findPotIdsByUserEmail("new@test.com");
+    }
+
+    @Test
+    @DisplayName("DB에서 채우는 도중 참여 정보가 바뀌면 이전 목록을 Redis에 저장하지 않는다")
+    void fill_started_before_change_is_discarded() {
+        //given - server1이 DB를 조회하는 사이에 server2에서 15번 팟 참여가 커밋됩니다.
+        when(potMemberRepository.findPotIdsByUserEmail(EMAIL)).thenAnswer(inv -> {
+            deferDelivery = true;
+            server2.onPotMemberChanged(PotMemberChangedEvent.joined(15L, EMAIL));
+            return List.of(10L, 20L, 30L);
+        }).thenReturn(List.of(10L, 15L, 20L, 30L));
+
+        //when
+        server1.get(EMAIL);
+        deferred.forEach(message -> subscribers.forEach(subscriber -> subscriber.onMessage(message, null)));
+        long[] joined = server2.get(EMAIL);
+
+        //then - 이전 목록은 버려졌으므로, server2는 DB에서 새 목록을 읽어 채웁니다.
+        assertThat(joined).containsExactly(10, 15, 20, 30);
+        assertThat(redis.get(JoinedPotsCache.KEY_PREFIX + EMAIL)).contains("15");
+    }
+
+    @Test
+    @DisplayName("자기 자신이 보낸 무효화 메시지로는 방금 갱신한 서버 메모리 항목을 지우지 않는다")
+    void own_invalidation_message_is_ignored() {
+        //given
+        server1.get(EMAIL);
+
+        //when
+        server1.onPotMemberChanged(PotMemberChangedEvent.joined(15L, EMAIL));
+        long[] joined = server1.get(EMAIL);
+
+        //then - Redis를 다시 읽지 않고 서버 메모리에서 응답합니다.
+        assertThat(joined).containsExactly(10, 15, 20, 30);
+        verify(setOperations, times(1)).members(JoinedPotsCache.KEY_PREFIX + EMAIL);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SetOperations<String, String> mockSetOperations() {
+        return mock(SetOperations.class);
+    }
+
+    private JoinedPotsCache newCache() {
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        doAnswer(inv -> subscribers.add(inv.getArgument(0)))
+                .when(container).addMessageListener(any(MessageListener.class), any(Topic.class));
+        return new JoinedPotsCache(new SimpleMeterRegistry(), redisTemplate, potMemberRepository, container,
+                100, Duration.ofMinutes(30));
+    }
+}
@@ -0,0 +1,46 @@
+package com.subdivision.subdivision_prj.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearestSelectorTest {
+
+    @Test
+    @DisplayName("힙으로 고른 상위 k개는 전체를 정렬한 결과의 앞부분과 같다 (거리가 같다면 ID 오름차순)")
+    void selectNearest_matches_fullSort() {
+        //given - 거리가 겹치는 후보가 많도록 0.1km 단위로 반올림한 거리 5,000개를 만듭니다.
+        Random random = new Random(7);
+        int n = 5000;
+        double[] distances = new double[n];
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            distances[i] = Math.round(random.nextDouble() * 100) / 10.0;
+            ids[i] = n - i;
+        }
+
+        //when
+        int[] nearest = NearestSelector.selectNearest(distances, ids, 120);
+
+        //then
+        int[] expected = IntStream.range(0, n).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> distances[i]).thenComparingLong(i -> ids[i]))
+                .limit(120)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertThat(nearest).containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("k가 후보 수보다 크면 후보 전체를 가까운 순으로 반환한다")
+    void selectNearest_with_large_k() {
+        assertThat(NearestSelector.selectNearest(new double[]{3.0, 1.0, 2.0}, new long[]{1, 2, 3}, 10))
+                .containsExactly(1, 2, 0);
+        assertThat(NearestSelector.selectNearest(new double[0], new long[0], 10)).isEmpty();
+    }
+}
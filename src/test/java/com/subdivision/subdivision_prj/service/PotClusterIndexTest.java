@@ -0,0 +1,80 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import com.subdivision.subdivision_prj.dto.PotClusterDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PotClusterIndexTest {
+
+    private final PotRepository potRepository = mock(PotRepository.class);
+    private PotClusterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        //given - 부산 서면 근처에 팟 3개, 해운대에 팟 1개
+        when(potRepository.findAllSnapshots()).thenReturn(List.of(
+                snapshot(1L, 35.1577, 129.0591),
+                snapshot(2L, 35.1580, 129.0595),
+                snapshot(3L, 35.1575, 129.0588),
+                snapshot(4L, 35.1631, 129.1635)
+        ));
+        index = new PotClusterIndex(potRepository, new SimpleMeterRegistry());
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("축소된 줌에서는 가까운 팟들이 하나의 클러스터로 묶이고 무게중심이 계산된다")
+    void clusters_are_aggregated_per_zoom() {
+        //when
+        List<PotClusterDto> zoomedOut = index.findClusters(128.9, 35.0, 129.3, 35.3, 8);
+        List<PotClusterDto> zoomedIn = index.findClusters(128.9, 35.0, 129.3, 35.3, 13);
+
+        //then
+        assertThat(zoomedOut).hasSize(1);
+        assertThat(zoomedOut.get(0).getCount()).isEqualTo(4);
+        assertThat(zoomedIn).extracting(PotClusterDto::getCount).containsExactlyInAnyOrder(3L, 1L);
+        PotClusterDto seomyeon = zoomedIn.stream().filter(cluster -> cluster.getCount() == 3).findFirst().orElseThrow();
+        assertThat(seomyeon.getLatitude()).isCloseTo((35.1577 + 35.1580 + 35.1575) / 3, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("대표 팟이 삭제되면 같은 셀의 다른 팟이 대표가 되고, 캐시된 타일에도 반영된다")
+    void sample_is_replaced_on_delete() {
+        //given - 타일을 캐시에 올려둡니다.
+        Long sample = index.findClusters(128.9, 35.0, 129.3, 35.3, 8).get(0).getSamplePotId();
+
+        //when
+        index.onPotChanged(PotChangedEvent.deleted(snapshot(sample, 0, 0)));
+
+        //then
+        List<PotClusterDto> clusters = index.findClusters(128.9, 35.0, 129.3, 35.3, 8);
+        assertThat(clusters.get(0).getCount()).isEqualTo(3);
+        assertThat(clusters.get(0).getSamplePotId()).isNotEqualTo(sample).isIn(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("줌 레벨에 비해 너무 넓은 영역은 거절한다")
+    void rejects_too_wide_area() {
+        assertThatThrownBy(() -> index.findClusters(120, 30, 135, 40, 16))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PotSnapshot snapshot(Long id, double lat, double lon) {
+        return new PotSnapshot(id, lat, lon, PotCategory.FOOD, PotStatus.RECRUITING, 1, 4);
+    }
+}
@@ -0,0 +1,173 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotDetailSnapshot;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis는 메모리 Map과 리스너 목록으로 흉내 내고, 같은 Redis를 공유하는 두 서버(캐시 인스턴스)로 L1/L2 동작과 무효화를 검증합니다.
+ */
+class PotDetailCacheTest {
+
+    private final Map<String, String> redis = new HashMap<>();
+    private final List<MessageListener> subscribers = new ArrayList<>();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private PotDetailCache server1;
+    private PotDetailCache server2;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        when(valueOperations.multiGet(anyCollection())).thenAnswer(inv ->
+                inv.<Collection<String>>getArgument(0).stream().map(redis::get).toList());
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.delete(anyString())).thenAnswer(inv -> redis.remove(inv.<String>getArgument(0)) != null);
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenAnswer(inv -> {
+            DefaultMessage message = new DefaultMessage(inv.<String>getArgument(0).getBytes(StandardCharsets.UTF_8),
+                    inv.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            subscribers.forEach(subscriber -> subscriber.onMessage(message, null));
+            return (long) subscribers.size();
+        });
+
+        server1 = newCache();
+        server2 = newCache();
+    }
+
+    @Test
+    @DisplayName("같은 버전은 서버 메모리에서 응답하고, 다른 서버는 Redis에 저장된 항목을 사용한다")
+    void serves_from_local_then_shared_cache() {
+        //when
+        server1.get(1L, 0, loader(0));
+        server1.get(1L, 0, loader(0));
+        PotDetailSnapshot fromRedis = server2.get(1L, 0, loader(0));
+
+        //then - DB 조회는 처음 한 번뿐이고, Redis의 JSON에서 참여자 목록까지 복원됩니다.
+        assertThat(loads).hasValue(1);
+        assertThat(fromRedis.members()).containsExactly(new PotDetailSnapshot.Member("joiner"));
+    }
+
+    @Test
+    @DisplayName("여러 팟을 조회하면 메모리, Redis에 없는 팟만 DB에서 한 번에 조회한다")
+    void getAll_loads_only_missing_pots_at_once() {
+        //given - 1번은 server2의 메모리에, 2번은 Redis에만 있고, 3번은 어디에도 없습니다.
+        server2.get(1L, 0, loader(0));
+        server1.get(2L, 0, loader(0));
+        List<Collection<Long>> batches = new ArrayList<>();
+
+        //when - 4번은 DB에 없는 팟입니다.
+        Map<Long, PotDetailSnapshot> details = server2.getAll(Map.of(1L, 0L, 2L, 0L, 3L, 0L, 4L, 0L), potIds -> {
+            batches.add(List.copyOf(potIds));
+            return List.of(loader(0).apply(3L));
+        });
+
+        //then
+        assertThat(details).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(redis).containsKey(PotDetailCache.KEY_PREFIX + 3);
+    }
+
+    @Test
+    @DisplayName("팟이 변경되면 모든 서버의 메모리 항목과 Redis 항목이 제거된다")
+    void invalidation_reaches_every_server() {
+        //given
+        server1.get(1L, 0, loader(0));
+        server2.get(1L, 0, loader(0));
+
+        //when - server1에서 수정이 커밋됩니다.
+        server1.onPotChanged(PotChangedEvent.updated(snapshot(), snapshot()));
+
+        //then - 같은 버전으로 조회해도 두 서버 모두 DB에서 다시 읽습니다.
+        assertThat(redis).isEmpty();
+        server2.get(1L, 0, loader(0));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 놓쳐도 버전이 다르면 이전 항목을 응답하지 않는다")
+    void stale_version_is_reloaded() {
+        //given
+        server1.get(1L, 0, loader(0));
+
+        //when - 다른 곳에서 버전이 1로 올라갔습니다.
+        PotDetailSnapshot detail = server1.get(1L, 1, loader(1));
+
+        //then
+        assertThat(detail.version()).isEqualTo(1);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Redis에 접근할 수 없어도 DB에서 조회하여 응답한다")
+    void falls_back_to_loader_when_redis_is_down() {
+        //given
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        //when
+        PotDetailSnapshot detail = server1.get(1L, 0, loader(0));
+
+        //then
+        assertThat(detail.title()).isEqualTo("참치 나눠요");
+        assertThat(server1.get(1L, 0, loader(0))).isSameAs(detail);
+        assertThat(loads).hasValue(1);
+    }
+
+    private PotDetailCache newCache() {
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+        doAnswer(inv -> subscribers.add(inv.getArgument(0)))
+                .when(container).addMessageListener(any(MessageListener.class), any(Topic.class));
+        return new PotDetailCache(new SimpleMeterRegistry(), redisTemplate, new ObjectMapper(), container,
+                100, Duration.ofMinutes(10));
+    }
+
+    private Function<Long, PotDetailSnapshot> loader(long version) {
+        return potId -> {
+            loads.incrementAndGet();
+            return new PotDetailSnapshot(potId, version, "참치 나눠요", "내용", "참치", 12000, 4, 2, "author",
+                    35.1577, 129.0591, "images/tuna.jpg", "부산", "101호", PotCategory.FOOD,
+                    List.of(new PotDetailSnapshot.Member("joiner")));
+        };
+    }
+
+    private PotSnapshot snapshot() {
+        return new PotSnapshot(1L, 35.1577, 129.0591, PotCategory.FOOD, PotStatus.RECRUITING, 2, 4);
+    }
+}
@@ -0,0 +1,77 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.GeoDistanceKernel;
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PotGeoIndex는 DB 없이 동작하는 순수 자료구조이므로, 레파지토리만 Mock으로 대체하여 단위 테스트합니다.
+ */
+class PotGeoIndexTest {
+
+    private final PotRepository potRepository = mock(PotRepository.class);
+
+    @Test
+    @DisplayName("격자 인덱스의 반경 검색 결과는 전체 목록을 Haversine으로 필터링한 결과와 같다")
+    void findWithin_matches_bruteForce() {
+        //given - 부산 시청 주변에 무작위 팟 2,000개를 만듭니다.
+        Random random = new Random(42);
+        List<PotSnapshot> snapshots = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            snapshots.add(snapshot(id, 35.0 + random.nextDouble() * 0.5, 128.9 + random.nextDouble() * 0.5));
+        }
+        when(potRepository.findAllSnapshots()).thenReturn(snapshots);
+        PotGeoIndex index = new PotGeoIndex(potRepository);
+        index.rebuild();
+
+        //when
+        List<Long> found = index.findWithin(35.179554, 129.075642, 3).stream().map(PotSnapshot::getId).toList();
+
+        //then
+        GeoDistanceKernel kernel = GeoDistanceKernel.around(35.179554, 129.075642, 3);
+        List<Long> expected = snapshots.stream()
+                .filter(s -> kernel.contains(s.getLatitude(), s.getLongitude()))
+                .map(PotSnapshot::getId)
+                .toList();
+        assertThat(found).isNotEmpty().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("팟이 이동하거나 삭제되면 이전 셀에서 더 이상 검색되지 않는다")
+    void put_and_remove_keep_cells_consistent() {
+        //given
+        when(potRepository.findAllSnapshots()).thenReturn(List.of(snapshot(1L, 35.18, 129.07)));
+        PotGeoIndex index = new PotGeoIndex(potRepository);
+        index.rebuild();
+
+        //when - 서울로 이동
+        index.put(snapshot(1L, 37.56, 126.97));
+
+        //then
+        assertThat(index.findWithin(35.18, 129.07, 1)).isEmpty();
+        assertThat(index.findWithin(37.56, 126.97, 1)).extracting(PotSnapshot::getId).containsExactly(1L);
+
+        //when - 삭제
+        index.remove(1L);
+
+        //then
+        assertThat(index.findWithin(37.56, 126.97, 1)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    private PotSnapshot snapshot(Long id, double lat, double lon) {
+        return new PotSnapshot(id, lat, lon, PotCategory.FOOD, PotStatus.RECRUITING, 1, 4);
+    }
+}
@@ -0,0 +1,106 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotKeywordDocument;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PotKeywordIndex는 DB 없이 동작하는 순수 자료구조이므로, 레파지토리만 Mock으로 대체하여 단위 테스트합니다.
+ */
+class PotKeywordIndexTest {
+
+    private final PotRepository potRepository = mock(PotRepository.class);
+    private PotKeywordIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(potRepository.findAllKeywordDocuments()).thenReturn(List.of(
+                document(1L, "생수 2L 나눠요", "제주 삼다수 대용량 수제", "삼다수", PotCategory.FOOD),
+                document(2L, "휴지 공구", "30롤 대용량 휴지", "화장지", PotCategory.DAILY_NECESSITIES),
+                document(3L, "Coffee 원두", "수원 원두 소분", "원두커피", PotCategory.FOOD),
+                document(4L, "The Tea for two", "a cup of tea", "홍차", PotCategory.FOOD)
+        ));
+        index = new PotKeywordIndex(potRepository, true);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("LIKE '%키워드%'와 같이 제목/내용/상품명 중 하나에 연속으로 포함된 팟만 찾는다")
+    void search_matches_substring() {
+        assertThat(index.search("대용량", null, null).stream()).containsExactly(1, 2);
+        assertThat(index.search("원두", null, null).stream()).containsExactly(3);
+        // '삼다수제'의 bigram(삼다, 다수, 수제)은 1번 팟에 모두 있지만 연속으로 등장하지는 않습니다.
+        assertThat(index.search("삼다수제", null, null).stream()).isEmpty();
+        // 대소문자를 구분하지 않습니다.
+        assertThat(index.search("coffee", null, null).stream()).containsExactly(3);
+        // 1글자 검색어도 찾을 수 있습니다.
+        assertThat(index.search("휴", null, null).stream()).containsExactly(2);
+        // 필드 경계를 넘는 문자열은 찾지 않습니다. (1번 팟의 제목 끝 '요' + 내용 시작 '제')
+        assertThat(index.search("요제", null, null).stream()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("MySQL 불용어(the, for, a)가 들어간 검색어도 LIKE 검색처럼 찾는다")
+    void search_matches_stopword_keywords() {
+        assertThat(index.search("the", null, null).stream()).containsExactly(4);
+        assertThat(index.search("for", null, null).stream()).containsExactly(4);
+        assertThat(index.search("a cup", null, null).stream()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("카테고리와 상태 조건은 BitSet 교집합으로 함께 적용된다")
+    void search_with_category_and_status() {
+        assertThat(index.search("대용량", PotCategory.FOOD, null).stream()).containsExactly(1);
+
+        //when - 1번 팟이 모집완료가 됩니다.
+        index.onPotChanged(PotChangedEvent.membership(
+                snapshot(1L, PotStatus.RECRUITING), snapshot(1L, PotStatus.COMPLETED)));
+
+        //then
+        assertThat(index.search("대용량", null, PotStatus.RECRUITING).stream()).containsExactly(2);
+        assertThat(index.search("대용량", null, PotStatus.COMPLETED).stream()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("팟이 수정/삭제되면 이전 텍스트로는 더 이상 검색되지 않는다")
+    void update_and_delete_are_reflected() {
+        //given - 2번 팟의 텍스트가 바뀝니다.
+        when(potRepository.findKeywordDocumentById(2L)).thenReturn(Optional.of(
+                document(2L, "물티슈 공구", "100매 10팩", "물티슈", PotCategory.DAILY_NECESSITIES)));
+
+        //when
+        index.onPotChanged(PotChangedEvent.updated(snapshot(2L, PotStatus.RECRUITING), snapshot(2L, PotStatus.RECRUITING)));
+
+        //then
+        assertThat(index.search("휴지", null, null).stream()).isEmpty();
+        assertThat(index.search("물티슈", null, null).stream()).containsExactly(2);
+        assertThat(index.search("공구", null, null).stream()).containsExactly(2);
+
+        //when - 삭제
+        index.onPotChanged(PotChangedEvent.deleted(snapshot(2L, PotStatus.RECRUITING)));
+
+        //then
+        assertThat(index.search("공구", null, null).stream()).isEmpty();
+    }
+
+    private PotKeywordDocument document(Long id, String title, String content, String productName, PotCategory category) {
+        return new PotKeywordDocument(id, title, content, productName, category, PotStatus.RECRUITING);
+    }
+
+    private PotSnapshot snapshot(Long id, PotStatus status) {
+        return new PotSnapshot(id, 35.18, 129.07, PotCategory.FOOD, status, 1, 4);
+    }
+}
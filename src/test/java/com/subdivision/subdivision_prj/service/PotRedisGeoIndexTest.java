@@ -0,0 +1,172 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.GeoOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 완료 표시, 재구축 잠금, 변경된 팟 ID 집합은 메모리 Map으로 흉내 내고, GEO/ZSET 명령은 호출 순서만 검증합니다.
+ * 같은 Redis를 공유하는 두 서버(인덱스 인스턴스)로 서버 간 일관성을 확인합니다.
+ */
+class PotRedisGeoIndexTest {
+
+    private final Map<String, String> values = new HashMap<>();
+    private final Map<String, Set<String>> sets = new HashMap<>();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final GeoOperations<String, String> geoOperations = mockGeoOperations();
+    private final ZSetOperations<String, String> zSetOperations = mockZSetOperations();
+    private final PotRepository potRepository = mock(PotRepository.class);
+
+    private PotRedisGeoIndex server1;
+    private PotRedisGeoIndex server2;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(inv -> values.get(inv.<String>getArgument(0)));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> values.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.add(anyString(), any(String[].class))).thenAnswer(inv -> {
+            Object[] arguments = inv.getArguments();
+            Set<String> set = sets.computeIfAbsent((String) arguments[0], key -> new HashSet<>());
+            Arrays.stream(arguments, 1, arguments.length).forEach(member -> set.add((String) member));
+            return 1L;
+        });
+        when(setOperations.members(anyString())).thenAnswer(inv -> sets.getOrDefault(inv.<String>getArgument(0), Set.of()));
+
+        when(redisTemplate.opsForGeo()).thenReturn(geoOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.hasKey(anyString())).thenAnswer(inv -> values.containsKey(inv.<String>getArgument(0)));
+        when(redisTemplate.delete(anyCollection())).thenAnswer(inv -> {
+            inv.<Collection<String>>getArgument(0).forEach(values::remove);
+            return 1L;
+        });
+        // 검색 스크립트는 완료 표시가 있을 때만 결과를 반환하고, 완료 스크립트는 잠금이 그대로일 때만 완료 표시를 남깁니다.
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+            RedisScript<?> script = inv.getArgument(0);
+            List<String> keys = inv.getArgument(1);
+            if (script.getScriptAsString().contains("GEOSEARCH")) {
+                return values.containsKey(keys.get(1)) ? List.of(List.of("1", "0.5")) : null;
+            }
+            String rebuildId = (String) inv.getArguments()[2];
+            if (!rebuildId.equals(values.get(keys.get(0)))) {
+                return 0L;
+            }
+            values.remove(keys.get(0));
+            sets.remove(keys.get(2));
+            values.put(keys.get(1), rebuildId);
+            return 1L;
+        });
+
+        server1 = new PotRedisGeoIndex(redisTemplate, potRepository, true);
+        server2 = new PotRedisGeoIndex(redisTemplate, potRepository, true);
+    }
+
+    @Test
+    @DisplayName("한 서버에서 갱신에 실패하면 Redis의 완료 표시를 지워, 다른 서버도 이 집합으로 검색하지 않는다")
+    void write_failure_on_one_server_disables_every_server() {
+        //given
+        values.put(PotRedisGeoIndex.READY_KEY, "previous");
+        assertThat(server2.findWithin(35.18, 129.07, 3, null)).isPresent();
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(geoOperations).add(anyString(), any(Point.class), anyString());
+
+        //when
+        server1.onPotChanged(PotChangedEvent.created(snapshot(7L, PotStatus.RECRUITING)));
+
+        //then
+        assertThat(values).doesNotContainKey(PotRedisGeoIndex.READY_KEY);
+        assertThat(server2.findWithin(35.18, 129.07, 3, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("완료 표시가 없는 기존 집합은 믿지 않고, 시작할 때 재구축하여 완료 표시를 남긴다")
+    void initialize_rebuilds_when_ready_marker_is_missing() {
+        //given - 이전 재구축이 중간에 실패하여 집합만 남아 있습니다.
+        when(redisTemplate.hasKey(PotRedisGeoIndex.RECRUITING_KEY)).thenReturn(true);
+        when(potRepository.findAllSnapshots()).thenReturn(List.of(snapshot(1L, PotStatus.RECRUITING)));
+
+        //when
+        server1.initialize();
+
+        //then
+        assertThat(values).containsKey(PotRedisGeoIndex.READY_KEY).doesNotContainKey(PotRedisGeoIndex.REBUILDING_KEY);
+        assertThat(server1.findWithin(35.18, 129.07, 3, null)).isPresent();
+    }
+
+    @Test
+    @DisplayName("재구축 중 다른 서버에서 변경된 팟은 집합을 교체한 뒤 DB의 최신 상태로 다시 반영된다")
+    void changes_during_rebuild_are_replayed_after_rename() {
+        //given - server1이 DB를 조회한 직후, server2에서 7번 팟의 모집이 끝납니다.
+        when(potRepository.findAllSnapshots()).thenAnswer(inv -> {
+            server2.onPotChanged(PotChangedEvent.membership(
+                    snapshot(7L, PotStatus.RECRUITING), snapshot(7L, PotStatus.COMPLETED)));
+            return List.of(snapshot(7L, PotStatus.RECRUITING));
+        });
+        when(potRepository.findSnapshotsByIdIn(List.of(7L))).thenReturn(List.of(snapshot(7L, PotStatus.COMPLETED)));
+
+        //when
+        server1.rebuild();
+
+        //then - 이전 스냅샷으로 채운 집합으로 교체된 뒤, 7번 팟이 다시 제거됩니다.
+        InOrder order = inOrder(redisTemplate, zSetOperations);
+        order.verify(redisTemplate).rename(anyString(), eq(PotRedisGeoIndex.RECRUITING_KEY));
+        order.verify(zSetOperations).remove(PotRedisGeoIndex.RECRUITING_KEY, "7");
+        assertThat(values).containsKey(PotRedisGeoIndex.READY_KEY);
+        assertThat(sets).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GeoOperations<String, String> mockGeoOperations() {
+        return mock(GeoOperations.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ZSetOperations<String, String> mockZSetOperations() {
+        return mock(ZSetOperations.class);
+    }
+
+    private PotSnapshot snapshot(Long id, PotStatus status) {
+        return new PotSnapshot(id, 35.18, 129.07, PotCategory.FOOD, status, 1, 4);
+    }
+}
@@ -0,0 +1,105 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PotSearchCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PotSearchCache cache = new PotSearchCache(meterRegistry, 10_000, Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("같은 셀, 같은 반경 구간의 검색은 캐시를 공유하고 적중/미스 지표가 기록된다")
+    void nearby_requests_share_entry() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        PotSearchCache.Key first = PotSearchCache.Key.of(35.1791, 129.0751, 9.6, null, null, PotStatus.RECRUITING);
+        PotSearchCache.Key second = PotSearchCache.Key.of(35.1755, 129.0712, 10, "  ", null, PotStatus.RECRUITING);
+
+        //when
+        cache.get(first, key -> load(loads));
+        cache.get(second, key -> load(loads));
+
+        //then
+        assertThat(first).isEqualTo(second);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "potSearch").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("팟이 바뀌면 그 팟의 위치를 덮는 항목만 제거된다")
+    void invalidates_only_covering_entries() {
+        //given - 부산 시청 주변과 서울 시청 주변의 검색 결과를 캐시합니다.
+        AtomicInteger loads = new AtomicInteger();
+        PotSearchCache.Key busan = PotSearchCache.Key.of(35.1796, 129.0756, 3, null, null, null);
+        PotSearchCache.Key seoul = PotSearchCache.Key.of(37.5663, 126.9779, 3, null, null, null);
+        cache.get(busan, key -> load(loads));
+        cache.get(seoul, key -> load(loads));
+
+        //when - 부산 시청에서 2km 떨어진 곳에 팟이 생성됩니다.
+        cache.onPotChanged(PotChangedEvent.created(snapshot(35.1976, 129.0756)));
+        cache.get(busan, key -> load(loads));
+        cache.get(seoul, key -> load(loads));
+
+        //then - 부산 항목만 다시 계산됩니다.
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("반경이 다른 항목은 각자의 반경으로 판정하여, 팟을 덮는 항목만 제거된다")
+    void invalidates_by_each_radius() {
+        //given - 같은 곳(부산 시청에서 약 20km)을 중심으로 반경 3km와 30km 검색 결과를 캐시합니다.
+        AtomicInteger loads = new AtomicInteger();
+        PotSearchCache.Key narrow = PotSearchCache.Key.of(35.3596, 129.0756, 3, null, null, null);
+        PotSearchCache.Key wide = PotSearchCache.Key.of(35.3596, 129.0756, 30, null, null, null);
+        cache.get(narrow, key -> load(loads));
+        cache.get(wide, key -> load(loads));
+
+        //when - 부산 시청에 팟이 생성됩니다.
+        cache.onPotChanged(PotChangedEvent.created(snapshot(35.1796, 129.0756)));
+        cache.get(narrow, key -> load(loads));
+        cache.get(wide, key -> load(loads));
+
+        //then - 30km 항목만 다시 계산됩니다.
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("위치를 옮긴 팟은 이전 위치와 현재 위치를 덮는 항목이 모두 제거된다")
+    void invalidates_previous_and_current_location() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        PotSearchCache.Key busan = PotSearchCache.Key.of(35.1796, 129.0756, 3, null, null, null);
+        PotSearchCache.Key seoul = PotSearchCache.Key.of(37.5663, 126.9779, 3, "참치", null, null);
+        cache.get(busan, key -> load(loads));
+        cache.get(seoul, key -> load(loads));
+
+        //when - 부산에 있던 팟을 서울로 옮깁니다.
+        cache.onPotChanged(PotChangedEvent.updated(snapshot(35.1796, 129.0756), snapshot(37.5663, 126.9779)));
+        cache.get(busan, key -> load(loads));
+        cache.get(seoul, key -> load(loads));
+
+        //then
+        assertThat(loads).hasValue(4);
+    }
+
+    private long[] load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new long[]{1L, 2L, 3L};
+    }
+
+    private PotSnapshot snapshot(double lat, double lon) {
+        return new PotSnapshot(99L, lat, lon, PotCategory.FOOD, PotStatus.RECRUITING, 1, 4);
+    }
+}
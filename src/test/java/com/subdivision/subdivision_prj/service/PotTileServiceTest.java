@@ -0,0 +1,79 @@
+package com.subdivision.subdivision_prj.service;
+
+import com.subdivision.subdivision_prj.domain.PotCategory;
+import com.subdivision.subdivision_prj.domain.PotRepository;
+import com.subdivision.subdivision_prj.domain.PotSnapshot;
+import com.subdivision.subdivision_prj.domain.PotStatus;
+import com.subdivision.subdivision_prj.domain.event.PotChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PotTileServiceTest {
+
+    private static final int ZOOM = 14;
+
+    private final PotRepository potRepository = mock(PotRepository.class);
+    private PotTileService tileService;
+
+    @BeforeEach
+    void setUp() {
+        //given - 부산 서면과 서울 시청에 팟이 하나씩 있습니다.
+        when(potRepository.findAllSnapshots()).thenReturn(List.of(
+                snapshot(1L, 35.1577, 129.0591, 1),
+                snapshot(2L, 37.5663, 126.9779, 1)
+        ));
+        PotGeoIndex geoIndex = new PotGeoIndex(potRepository);
+        geoIndex.rebuild();
+        tileService = new PotTileService(geoIndex, potRepository, new SimpleMeterRegistry(), 1 << 20);
+    }
+
+    @Test
+    @DisplayName("타일은 캐시되고, 그 타일에 그려지는 팟이 바뀔 때만 새로 인코딩된다")
+    void tile_is_cached_and_invalidated_by_position() {
+        //given
+        PotTileService.TileBytes seomyeon = tileService.getTile(ZOOM, tileX(129.0591), tileY(35.1577));
+        PotTileService.TileBytes seoul = tileService.getTile(ZOOM, tileX(126.9779), tileY(37.5663));
+
+        //when - 서면 팟의 참여 인원이 바뀝니다.
+        PotSnapshot joined = snapshot(1L, 35.1577, 129.0591, 2);
+        tileService.onPotChanged(PotChangedEvent.membership(snapshot(1L, 35.1577, 129.0591, 1), joined));
+        PotTileService.TileBytes seomyeonAfter = tileService.getTile(ZOOM, tileX(129.0591), tileY(35.1577));
+        PotTileService.TileBytes seoulAfter = tileService.getTile(ZOOM, tileX(126.9779), tileY(37.5663));
+
+        //then
+        assertThat(new String(seomyeon.data(), StandardCharsets.ISO_8859_1)).contains("pots", "potId", "FOOD");
+        assertThat(seomyeonAfter).isNotSameAs(seomyeon);
+        assertThat(seoulAfter).isSameAs(seoul);
+    }
+
+    @Test
+    @DisplayName("클러스터를 사용해야 하는 축소된 줌 레벨의 타일은 요청할 수 없다")
+    void rejects_low_zoom() {
+        assertThatThrownBy(() -> tileService.getTile(PotTileService.MIN_ZOOM - 1, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tileService.getTile(ZOOM, 1 << ZOOM, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int tileX(double lon) {
+        return (int) Math.floor(PotClusterIndex.mercatorX(lon) * (1 << ZOOM));
+    }
+
+    private int tileY(double lat) {
+        return (int) Math.floor(PotClusterIndex.mercatorY(lat) * (1 << ZOOM));
+    }
+
+    private PotSnapshot snapshot(Long id, double lat, double lon, int currentHeadcount) {
+        return new PotSnapshot(id, lat, lon, PotCategory.FOOD, PotStatus.RECRUITING, currentHeadcount, 4);
+    }
+}
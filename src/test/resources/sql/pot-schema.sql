@@ -0,0 +1,54 @@
+-- 팟 레파지토리 테스트(@DataJpaTest)용 H2 스키마입니다.
+-- 운영 스키마의 location(MySQL 생성 컬럼)과 SPATIAL/FULLTEXT 인덱스는 H2에서 만들 수 없으므로,
+-- 팟 목록 조회에 필요한 테이블과 컬럼만 같은 이름으로 만듭니다.
+CREATE TABLE users (
+    user_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    nickname VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE pots (
+    pot_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users (user_id),
+    title VARCHAR(255) NOT NULL,
+    content VARCHAR(255) NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    maximum_headcount INT NOT NULL,
+    current_headcount INT NOT NULL,
+    latitude DOUBLE NOT NULL,
+    longitude DOUBLE NOT NULL,
+    location GEOMETRY,
+    address VARCHAR(255),
+    detail_address VARCHAR(255),
+    image_url TEXT,
+    category VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    price INT NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE pot_summary (
+    pot_id BIGINT PRIMARY KEY REFERENCES pots (pot_id),
+    author_id BIGINT NOT NULL,
+    author_nickname VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    price INT NOT NULL,
+    maximum_headcount INT NOT NULL,
+    current_headcount INT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    latitude DOUBLE NOT NULL,
+    longitude DOUBLE NOT NULL,
+    image_url TEXT
+);
+
+CREATE TABLE pot_members (
+    pot_member_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    pot_id BIGINT NOT NULL REFERENCES pots (pot_id),
+    user_id BIGINT NOT NULL REFERENCES users (user_id)
+);
+
+ALTER TABLE pot_members ADD CONSTRAINT uk_pot_members_pot_user UNIQUE (pot_id, user_id);